@@ -0,0 +1,44 @@
+package com.breakinblocks.horsepowered.gametest;
+
+import com.breakinblocks.horsepowered.HorsePowerMod;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.fml.common.Mod;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+import java.util.function.Consumer;
+
+/**
+ * Game test functions. The test instances that run them live in data/horsepowered/test_instance;
+ * each test has its own environment so they end up in separate batches and don't overlap.
+ * <p>
+ * This is a second entrypoint of the mod that only exists in the gametest source set, so the
+ * tests are registered in the dev runs but never in the mod jar.
+ */
+@Mod(HorsePowerMod.MOD_ID)
+public class HPGameTests {
+
+    public static final DeferredRegister<Consumer<GameTestHelper>> TEST_FUNCTIONS =
+            DeferredRegister.create(Registries.TEST_FUNCTION, HorsePowerMod.MOD_ID);
+
+    public static final DeferredHolder<Consumer<GameTestHelper>, Consumer<GameTestHelper>> LOAD_100 =
+            TEST_FUNCTIONS.register("load_100", () -> helper -> MachineLoadTest.run(helper, 100));
+
+    public static final DeferredHolder<Consumer<GameTestHelper>, Consumer<GameTestHelper>> LOAD_1000 =
+            TEST_FUNCTIONS.register("load_1000", () -> helper -> MachineLoadTest.run(helper, 1000));
+
+    public static final DeferredHolder<Consumer<GameTestHelper>, Consumer<GameTestHelper>> LOAD_5000 =
+            TEST_FUNCTIONS.register("load_5000", () -> helper -> MachineLoadTest.run(helper, 5000));
+
+    public static final DeferredHolder<Consumer<GameTestHelper>, Consumer<GameTestHelper>> TICK_ALLOCATION =
+            TEST_FUNCTIONS.register("tick_allocation", () -> helper -> TickAllocationTest.run(helper, true));
+
+    public static final DeferredHolder<Consumer<GameTestHelper>, Consumer<GameTestHelper>> TICK_ALLOCATION_STEPPED =
+            TEST_FUNCTIONS.register("tick_allocation_stepped", () -> helper -> TickAllocationTest.run(helper, false));
+
+    public HPGameTests(IEventBus modEventBus) {
+        TEST_FUNCTIONS.register(modEventBus);
+    }
+}
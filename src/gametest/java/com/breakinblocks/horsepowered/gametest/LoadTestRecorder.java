@@ -0,0 +1,131 @@
+package com.breakinblocks.horsepowered.gametest;
+
+import com.breakinblocks.horsepowered.HorsePowerMod;
+import com.breakinblocks.horsepowered.profiling.MachineProfiler;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Collects per-tick timings while a load test is measuring: the whole server tick, and the part of
+ * it spent in HorsePowered code along with what that allocated. The latter is the sum of every
+ * outermost MachineProfiler section, which covers the machine scheduler with its queued area checks
+ * and worker searches, machines ticked by vanilla, and the end-of-tick sync flush. The sections
+ * come from a MachineProfiler listener, so the mod itself has no code for the tests.
+ */
+@EventBusSubscriber(modid = HorsePowerMod.MOD_ID)
+public class LoadTestRecorder {
+
+    private static boolean recording;
+    private static long tickStart;
+    private static long machineNanos;
+    private static long machineBytes;
+    private static final LongArrayList SERVER_SAMPLES = new LongArrayList();
+    private static final LongArrayList MACHINE_SAMPLES = new LongArrayList();
+    private static final LongArrayList MACHINE_BYTES = new LongArrayList();
+
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Adds the time and allocated bytes of an outermost section to the current server tick.
+     */
+    private static void onSection(MachineProfiler.Section section, @Nullable BlockEntity machine, long nanos, long bytes, boolean outermost) {
+        if (!outermost) return;
+        machineNanos += nanos;
+        machineBytes += bytes;
+    }
+
+    public static void start() {
+        SERVER_SAMPLES.clear();
+        MACHINE_SAMPLES.clear();
+        MACHINE_BYTES.clear();
+        machineNanos = 0L;
+        machineBytes = 0L;
+        tickStart = 0L;
+        recording = true;
+        MachineProfiler.setListener(LoadTestRecorder::onSection);
+    }
+
+    public static Result stop() {
+        MachineProfiler.setListener(null);
+        recording = false;
+        return new Result(SERVER_SAMPLES.toLongArray(), MACHINE_SAMPLES.toLongArray(), MACHINE_BYTES.toLongArray());
+    }
+
+    @SubscribeEvent
+    public static void onServerTickPre(ServerTickEvent.Pre event) {
+        if (!recording) return;
+        tickStart = System.nanoTime();
+        machineNanos = 0L;
+        machineBytes = 0L;
+    }
+
+    @SubscribeEvent
+    public static void onServerTickPost(ServerTickEvent.Post event) {
+        // Skip the tick recording started in, it has no start time
+        if (!recording || tickStart == 0L) return;
+        SERVER_SAMPLES.add(System.nanoTime() - tickStart);
+        MACHINE_SAMPLES.add(machineNanos);
+        MACHINE_BYTES.add(machineBytes);
+    }
+
+    /**
+     * The samples of one measurement, in nanoseconds and allocated bytes per server tick.
+     */
+    public record Result(long[] serverTicks, long[] machineTicks, long[] machineBytes) {
+
+        public int ticks() {
+            return serverTicks.length;
+        }
+
+        public double meanServerMspt() {
+            return mean(serverTicks);
+        }
+
+        public double p99ServerMspt() {
+            return p99(serverTicks);
+        }
+
+        public double meanMachineMspt() {
+            return mean(machineTicks);
+        }
+
+        public double p99MachineMspt() {
+            return p99(machineTicks);
+        }
+
+        public long meanMachineBytes() {
+            if (machineBytes.length == 0) return 0L;
+            long total = 0L;
+            for (long sample : machineBytes) {
+                total += sample;
+            }
+            return total / machineBytes.length;
+        }
+
+        private static double mean(long[] samples) {
+            if (samples.length == 0) return 0.0D;
+            long total = 0L;
+            for (long sample : samples) {
+                total += sample;
+            }
+            return total / (double) samples.length / 1_000_000.0D;
+        }
+
+        private static double p99(long[] samples) {
+            if (samples.length == 0) return 0.0D;
+            long[] sorted = samples.clone();
+            Arrays.sort(sorted);
+            int index = Math.max(0, (int) Math.ceil(sorted.length * 0.99D) - 1);
+            return sorted[index] / 1_000_000.0D;
+        }
+    }
+}
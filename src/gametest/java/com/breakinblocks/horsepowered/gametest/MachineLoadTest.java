@@ -0,0 +1,186 @@
+package com.breakinblocks.horsepowered.gametest;
+
+import com.breakinblocks.horsepowered.blockentity.HPBlockEntityHorseBase;
+import com.breakinblocks.horsepowered.blocks.ModBlocks;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.Container;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.animal.equine.Horse;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.HopperBlock;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.HopperBlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.registries.DeferredBlock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Load harness for capacity planning. Lays out a grid of grindstones, choppers and presses, each
+ * with a horse attached and a hopper feeding it, lets them settle and then measures how long the
+ * server ticks take and how much of that is spent ticking the machines.
+ * <p>
+ * Run headless with {@code ./gradlew runGameTestServer [-PloadTestTicks=<ticks>]}.
+ */
+public class MachineLoadTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MachineLoadTest.class);
+
+    // Each machine gets its working area plus a one block gap to the next one
+    private static final int CELL_SIZE = HPBlockEntityHorseBase.AREA_RADIUS * 2 + 2;
+    // Must stay below max_ticks of the test instances minus the warmup
+    private static final int MAX_TICKS = 10000;
+    private static final int MEASURE_TICKS = Mth.clamp(Integer.getInteger("horsepowered.loadtest.ticks", 1200), 1, MAX_TICKS);
+    // Lets horses attach and reach the path before measuring
+    private static final int WARMUP_TICKS = 100;
+    // How often the hoppers are topped up and the outputs emptied so machines never stall
+    private static final int REFILL_INTERVAL = 100;
+
+    enum Kind {
+        GRINDSTONE(ModBlocks.GRINDSTONE, Items.WHEAT),
+        CHOPPER(ModBlocks.CHOPPER, Items.OAK_LOG),
+        PRESS(ModBlocks.PRESS, Items.SUGAR_CANE);
+
+        private final DeferredBlock<Block> block;
+        private final Item input;
+
+        Kind(DeferredBlock<Block> block, Item input) {
+            this.block = block;
+            this.input = input;
+        }
+    }
+
+    record Machine(Kind kind, BlockPos pos, BlockPos hopperPos, Horse horse) {
+    }
+
+    public static void run(GameTestHelper helper, int count) {
+        ServerLevel level = helper.getLevel();
+        int side = Mth.ceil(Math.sqrt(count));
+        LongSet forcedChunks = new LongOpenHashSet();
+        List<Machine> machines = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            BlockPos relative = new BlockPos(CELL_SIZE / 2 + (i % side) * CELL_SIZE, 0, CELL_SIZE / 2 + (i / side) * CELL_SIZE);
+            BlockPos pos = helper.absolutePos(relative);
+            forceChunks(level, pos, forcedChunks);
+            machines.add(place(helper, level, relative, pos, Kind.values()[i % Kind.values().length]));
+        }
+        refill(level, machines);
+
+        helper.onEachTick(() -> {
+            if (helper.getTick() % REFILL_INTERVAL == 0) {
+                refill(level, machines);
+            }
+        });
+        helper.runAtTickTime(WARMUP_TICKS, LoadTestRecorder::start);
+        helper.runAtTickTime(WARMUP_TICKS + MEASURE_TICKS, () -> {
+            LoadTestRecorder.Result result = LoadTestRecorder.stop();
+            LOGGER.info("[HorsePowered] Load test with {} machines over {} ticks: machines mean {} ms / p99 {} ms / {} B allocated, server tick mean {} ms / p99 {} ms",
+                    count, result.ticks(),
+                    String.format("%.3f", result.meanMachineMspt()), String.format("%.3f", result.p99MachineMspt()), result.meanMachineBytes(),
+                    String.format("%.3f", result.meanServerMspt()), String.format("%.3f", result.p99ServerMspt()));
+            cleanUp(level, machines, forcedChunks);
+            helper.succeed();
+        });
+    }
+
+    /**
+     * Builds one machine cell: a floor under the working area, the machine with a hopper feeding
+     * it from the side and a horse on the path.
+     */
+    static Machine place(GameTestHelper helper, ServerLevel level, BlockPos relative, BlockPos pos, Kind kind) {
+        int radius = HPBlockEntityHorseBase.AREA_RADIUS;
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int x = -radius; x <= radius; x++) {
+            for (int z = -radius; z <= radius; z++) {
+                level.setBlock(cursor.setWithOffset(pos, x, -1, z), Blocks.STONE.defaultBlockState(), Block.UPDATE_CLIENTS);
+                for (int y = 0; y <= 2; y++) {
+                    level.setBlock(cursor.setWithOffset(pos, x, y, z), Blocks.AIR.defaultBlockState(), Block.UPDATE_CLIENTS);
+                }
+            }
+        }
+
+        // Goes through setPlacedBy so the chopper gets its filler block
+        BlockState state = kind.block.get().defaultBlockState();
+        level.setBlock(pos, state, Block.UPDATE_ALL);
+        state.getBlock().setPlacedBy(level, pos, state, null, ItemStack.EMPTY);
+
+        // The 3x3 around the machine is not part of the path, so the hopper can sit next to it
+        BlockPos hopperPos = pos.east();
+        level.setBlock(hopperPos, Blocks.HOPPER.defaultBlockState().setValue(HopperBlock.FACING, Direction.WEST), Block.UPDATE_ALL);
+
+        Horse horse = helper.spawn(EntityType.HORSE, relative.offset(-radius, 0, -radius));
+        if (level.getBlockEntity(pos) instanceof HPBlockEntityHorseBase machine) {
+            machine.setWorker(horse);
+        }
+        return new Machine(kind, pos, hopperPos, horse);
+    }
+
+    static void refill(ServerLevel level, List<Machine> machines) {
+        for (Machine machine : machines) {
+            if (level.getBlockEntity(machine.hopperPos()) instanceof HopperBlockEntity hopper) {
+                for (int slot = 0; slot < hopper.getContainerSize(); slot++) {
+                    hopper.setItem(slot, new ItemStack(machine.kind().input, machine.kind().input.getDefaultMaxStackSize()));
+                }
+            }
+            if (level.getBlockEntity(machine.pos()) instanceof HPBlockEntityHorseBase be) {
+                // Everything after the input slot is output
+                for (int slot = 1; slot < be.getContainerSize(); slot++) {
+                    if (!be.getItem(slot).isEmpty()) {
+                        be.setItem(slot, ItemStack.EMPTY);
+                    }
+                }
+            }
+        }
+    }
+
+    static void forceChunks(ServerLevel level, BlockPos center, LongSet forcedChunks) {
+        int radius = HPBlockEntityHorseBase.AREA_RADIUS;
+        for (int x = (center.getX() - radius) >> 4; x <= (center.getX() + radius) >> 4; x++) {
+            for (int z = (center.getZ() - radius) >> 4; z <= (center.getZ() + radius) >> 4; z++) {
+                if (forcedChunks.add(ChunkPos.asLong(x, z))) {
+                    level.setChunkForced(x, z, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the machines, hoppers and horses again. They are outside the test structure, so the
+     * framework wouldn't clear them before the next batch.
+     */
+    static void cleanUp(ServerLevel level, List<Machine> machines, LongSet forcedChunks) {
+        int flags = Block.UPDATE_CLIENTS | Block.UPDATE_SKIP_BLOCK_ENTITY_SIDEEFFECTS;
+        for (Machine machine : machines) {
+            machine.horse().discard();
+            clear(level, machine.hopperPos(), flags);
+            clear(level, machine.pos().above(), flags);
+            clear(level, machine.pos(), flags);
+        }
+        for (long chunk : forcedChunks) {
+            level.setChunkForced(ChunkPos.getX(chunk), ChunkPos.getZ(chunk), false);
+        }
+    }
+
+    private static void clear(ServerLevel level, BlockPos pos, int flags) {
+        BlockEntity blockEntity = level.getBlockEntity(pos);
+        if (blockEntity instanceof Container container) {
+            container.clearContent();
+        }
+        level.setBlock(pos, Blocks.AIR.defaultBlockState(), flags);
+    }
+}
@@ -0,0 +1,121 @@
+package com.breakinblocks.horsepowered.gametest;
+
+import com.breakinblocks.horsepowered.blockentity.HPBlockEntityHorseBase;
+import com.breakinblocks.horsepowered.profiling.MachineProfiler;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Checks what a working grindstone allocates on the server in ticks where its horse is between two
+ * path points. Reaching a point processes the item and may allocate; the ticks in between are
+ * checked one by one.
+ * <p>
+ * With virtual worker movement those ticks must allocate nothing at all. Stepped movement moves
+ * the horse with setPos() every tick, and vanilla builds a new position and bounding box for that,
+ * so zero allocation only holds in virtual mode. Stepped ticks are held to a small budget instead.
+ */
+public class TickAllocationTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TickAllocationTest.class);
+
+    // Lets the horse attach, the orbit start and the JIT settle before measuring
+    private static final int WARMUP_TICKS = 200;
+    private static final int MEASURE_TICKS = 1000;
+    // Mean bytes per stepped tick between points: a Vec3 and an AABB from setPos(), with room for
+    // the occasional BlockPos when the horse enters another block
+    private static final long STEPPED_TICK_BUDGET = 256L;
+
+    @Nullable
+    private static HPBlockEntityHorseBase watched;
+    private static long lastPoints;
+    private static long points;
+    private static int ticksBetweenPoints;
+    private static int allocatingTicks;
+    private static long totalBytes;
+    private static long maxBytes;
+
+    public static void run(GameTestHelper helper, boolean virtualMovement) {
+        if (!MachineProfiler.isAllocationSupported()) {
+            LOGGER.warn("[HorsePowered] Skipping the tick allocation test, this JVM can't measure allocations");
+            helper.succeed();
+            return;
+        }
+
+        ServerLevel level = helper.getLevel();
+        int offset = HPBlockEntityHorseBase.AREA_RADIUS + 1;
+        BlockPos relative = new BlockPos(offset, 0, offset);
+        BlockPos pos = helper.absolutePos(relative);
+        LongSet forcedChunks = new LongOpenHashSet();
+        MachineLoadTest.forceChunks(level, pos, forcedChunks);
+        List<MachineLoadTest.Machine> machines = List.of(MachineLoadTest.place(helper, level, relative, pos, MachineLoadTest.Kind.GRINDSTONE));
+        MachineLoadTest.refill(level, machines);
+        // Set on the machine rather than the config, so nothing is left behind if the test dies
+        if (level.getBlockEntity(pos) instanceof HPBlockEntityHorseBase machine) {
+            machine.setVirtualMovementOverride(virtualMovement);
+        }
+
+        helper.runAtTickTime(WARMUP_TICKS, () -> {
+            watched = level.getBlockEntity(pos) instanceof HPBlockEntityHorseBase machine ? machine : null;
+            lastPoints = watched != null ? watched.getPathPointsReached() : 0L;
+            points = 0L;
+            ticksBetweenPoints = 0;
+            allocatingTicks = 0;
+            totalBytes = 0L;
+            maxBytes = 0L;
+            MachineProfiler.setListener(TickAllocationTest::onSection);
+        });
+        helper.runAtTickTime(WARMUP_TICKS + MEASURE_TICKS, () -> {
+            MachineProfiler.setListener(null);
+            watched = null;
+            MachineLoadTest.cleanUp(level, machines, forcedChunks);
+
+            long meanBytes = ticksBetweenPoints > 0 ? totalBytes / ticksBetweenPoints : 0L;
+            String mode = virtualMovement ? "virtual" : "stepped";
+            LOGGER.info("[HorsePowered] Tick allocation test with {} movement: {} path points reached, {} of {} ticks between them allocated, {} B mean / {} B max",
+                    mode, points, allocatingTicks, ticksBetweenPoints, meanBytes, maxBytes);
+            if (points == 0L) {
+                helper.fail(Component.literal("The horse never reached a path point"));
+            }
+            if (virtualMovement && allocatingTicks > 0) {
+                helper.fail(Component.literal(allocatingTicks + " of " + ticksBetweenPoints
+                        + " machine ticks between path points allocated, up to " + maxBytes + " B"));
+            }
+            if (!virtualMovement && meanBytes > STEPPED_TICK_BUDGET) {
+                helper.fail(Component.literal("Stepped machine ticks between path points allocated " + meanBytes
+                        + " B on average, the budget is " + STEPPED_TICK_BUDGET + " B"));
+            }
+            helper.succeed();
+        });
+    }
+
+    /**
+     * Sorts every tick of the grindstone into one that reached a path point or one between points,
+     * and keeps track of what the latter allocated.
+     */
+    private static void onSection(MachineProfiler.Section section, @Nullable BlockEntity machine, long nanos, long bytes, boolean outermost) {
+        if (section != MachineProfiler.Section.HORSE_TICK || machine == null || machine != watched) return;
+
+        long reached = watched.getPathPointsReached();
+        if (reached != lastPoints) {
+            points += reached - lastPoints;
+            lastPoints = reached;
+            return;
+        }
+        ticksBetweenPoints++;
+        totalBytes += bytes;
+        if (bytes > 0L) {
+            allocatingTicks++;
+            maxBytes = Math.max(maxBytes, bytes);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.breakinblocks.horsepowered.benchmark;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+/**
+ * Bootstraps the vanilla registries once per benchmark JVM, so items, blocks and ingredients
+ * can be created without starting a game.
+ */
+public final class BenchmarkBootstrap {
+
+    private static boolean bootstrapped = false;
+
+    private BenchmarkBootstrap() {
+    }
+
+    public static synchronized void bootstrap() {
+        if (bootstrapped) return;
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        bootstrapped = true;
+    }
+}
@@ -0,0 +1,90 @@
+package com.breakinblocks.horsepowered.blockentity;
+
+import com.breakinblocks.horsepowered.benchmark.BenchmarkBootstrap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.material.Fluids;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The working area check run by validateArea(), against a block getter that is all air except
+ * for an optional obstruction on the last checked position, so both cases read the whole ring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AreaValidationBenchmark {
+
+    private static final BlockPos CENTER = new BlockPos(100, 64, -200);
+
+    @Param({"clear", "blockedLast"})
+    public String area;
+
+    private BlockGetter level;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.bootstrap();
+
+        BlockPos obstruction = null;
+        if (area.equals("blockedLast")) {
+            long offset = HPBlockEntityHorseBase.getWorkingAreaOffset(HPBlockEntityHorseBase.getWorkingAreaSize() - 1);
+            obstruction = CENTER.offset(BlockPos.getX(offset), BlockPos.getY(offset), BlockPos.getZ(offset));
+        }
+        level = new FlatBlockGetter(obstruction);
+    }
+
+    @Benchmark
+    public boolean isAreaClear() {
+        return HPBlockEntityHorseBase.isAreaClear(level, CENTER);
+    }
+
+    private record FlatBlockGetter(@Nullable BlockPos obstruction) implements BlockGetter {
+
+        @Nullable
+        @Override
+        public BlockEntity getBlockEntity(BlockPos pos) {
+            return null;
+        }
+
+        @Override
+        public BlockState getBlockState(BlockPos pos) {
+            return pos.equals(obstruction) ? Blocks.STONE.defaultBlockState() : Blocks.AIR.defaultBlockState();
+        }
+
+        @Override
+        public FluidState getFluidState(BlockPos pos) {
+            return Fluids.EMPTY.defaultFluidState();
+        }
+
+        @Override
+        public int getHeight() {
+            return 384;
+        }
+
+        @Override
+        public int getMinY() {
+            return -64;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.breakinblocks.horsepowered.client.renderer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the lead rope geometry: the points the renderer computes every frame by scaling the
+ * unit curve for the segment count to the endpoint delta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeadGeometryBenchmark {
+
+    // A worker on the far side of the path, a little below the attachment point
+    private static final double DX = 2.7D;
+    private static final double DY = -0.4D;
+    private static final double DZ = -3.1D;
+
+    @Param({"24", "12", "4"})
+    public int segments;
+
+    private final float[] points = new float[25 * 3];
+
+    @Benchmark
+    public float[] scale() {
+        LeadRenderer.getCurve(segments).scale((float) DX, (float) DY, (float) DZ, points);
+        return points;
+    }
+}
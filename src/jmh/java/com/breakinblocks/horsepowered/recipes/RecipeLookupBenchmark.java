@@ -0,0 +1,124 @@
+package com.breakinblocks.horsepowered.recipes;
+
+import com.breakinblocks.horsepowered.HorsePowerMod;
+import com.breakinblocks.horsepowered.benchmark.BenchmarkBootstrap;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.neoforged.neoforge.fluids.FluidStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recipe matching for each Horse Powered recipe type: a linear scan over every recipe, as the
+ * RecipeManager lookup did, against the item-keyed index used by the machines.
+ * The hit input is accepted by the last recipe only, the worst case for the scan. The miss input is
+ * accepted by none, which the index answers from its miss cache after the first lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeLookupBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int recipeCount;
+
+    @Param({"grinding", "chopping", "pressing"})
+    public String recipeType;
+
+    private List<RecipeHolder<HPRecipe>> recipes;
+    private HPRecipeIndex.TypeIndex<HPRecipe> index;
+    private ItemStack hit;
+    private ItemStack miss;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.bootstrap();
+
+        // Every item but the ones used for hits and misses, cycled when there are more recipes than items
+        List<Item> items = BuiltInRegistries.ITEM.stream()
+                .filter(item -> item != Items.AIR && item != Items.BARRIER && item != Items.STRUCTURE_VOID)
+                .toList();
+
+        recipes = new ArrayList<>(recipeCount);
+        for (int i = 0; i < recipeCount; i++) {
+            // Only the last recipe takes the hit item, so the scan always goes all the way
+            Item input = i == recipeCount - 1 ? Items.STRUCTURE_VOID : items.get(i % items.size());
+            ResourceKey<Recipe<?>> key =
+                    ResourceKey.create(Registries.RECIPE, HorsePowerMod.id("benchmark/" + recipeType + "/" + i));
+            recipes.add(new RecipeHolder<>(key, createRecipe(input)));
+        }
+
+        index = HPRecipeIndex.TypeIndex.build(recipes);
+        hit = new ItemStack(Items.STRUCTURE_VOID);
+        miss = new ItemStack(Items.BARRIER);
+    }
+
+    private HPRecipe createRecipe(Item input) {
+        Ingredient ingredient = Ingredient.of(input);
+        ItemStack result = new ItemStack(Items.STICK);
+        return switch (recipeType) {
+            case "grinding" -> new GrindstoneRecipe(ingredient, result, new ItemStack(Items.WHEAT_SEEDS), 50, 12);
+            case "chopping" -> new ChoppingRecipe(ingredient, result, 4);
+            case "pressing" -> new PressRecipe(ingredient, 4, result, FluidStack.EMPTY);
+            default -> throw new IllegalArgumentException("Unknown recipe type " + recipeType);
+        };
+    }
+
+    private Optional<RecipeHolder<HPRecipe>> scan(ItemStack stack) {
+        for (RecipeHolder<HPRecipe> holder : recipes) {
+            if (holder.value().accepts(stack)) {
+                return Optional.of(holder);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public Optional<RecipeHolder<HPRecipe>> linearScanHit() {
+        return scan(hit);
+    }
+
+    @Benchmark
+    public Optional<RecipeHolder<HPRecipe>> linearScanMiss() {
+        return scan(miss);
+    }
+
+    @Benchmark
+    public Optional<RecipeHolder<HPRecipe>> indexedHit() {
+        return index.find(hit);
+    }
+
+    @Benchmark
+    public Optional<RecipeHolder<HPRecipe>> indexedMiss() {
+        return index.find(miss);
+    }
+
+    @Benchmark
+    public HPRecipeIndex.TypeIndex<HPRecipe> buildIndex() {
+        return HPRecipeIndex.TypeIndex.build(recipes);
+    }
+}
@@ -1,15 +1,14 @@
 package com.breakinblocks.horsepowered.blockentity;
 
 import com.breakinblocks.horsepowered.config.HorsePowerConfig;
+import com.breakinblocks.horsepowered.profiling.jfr.ItemProcessedEvent;
 import com.breakinblocks.horsepowered.recipes.ChoppingRecipe;
-import com.breakinblocks.horsepowered.recipes.HPRecipeInput;
+import com.breakinblocks.horsepowered.recipes.HPRecipeIndex;
 import com.breakinblocks.horsepowered.recipes.HPRecipes;
-import com.google.common.collect.Lists;
+import com.breakinblocks.horsepowered.recipes.RecipeCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 import net.minecraft.world.level.block.state.BlockState;
@@ -22,6 +21,7 @@ public class ChopperBlockEntity extends HPBlockEntityHorseBase {
     private int currentItemChopTime;
     private int totalItemChopTime;
     private float visualWindup = 0;
+    private final RecipeCache<ChoppingRecipe> recipeCache = new RecipeCache<>(HPRecipes.CHOPPING_TYPE);
 
     public ChopperBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.CHOPPER.get(), pos, state, 2);
@@ -64,40 +64,7 @@ public class ChopperBlockEntity extends HPBlockEntityHorseBase {
             if (!ItemStack.isSameItemSameComponents(inputSlot, stack)) return false;
             if (inputSlot.getCount() >= getInventoryStackLimit()) return false;
         }
-        if (!(level instanceof ServerLevel serverLevel)) return false;
-
-        HPRecipeInput recipeInput = new HPRecipeInput(stack);
-        return ((RecipeManager) serverLevel.recipeAccess())
-                .getRecipeFor(HPRecipes.CHOPPING_TYPE.get(), recipeInput, serverLevel)
-                .isPresent();
-    }
-
-    @Override
-    public boolean validateArea() {
-        if (level == null) return false;
-
-        if (searchPos == null) {
-            searchPos = Lists.newArrayList();
-
-            for (int x = -3; x <= 3; x++) {
-                for (int z = -3; z <= 3; z++) {
-                    // Skip center area
-                    if ((x <= 1 && x >= -1) && (z <= 1 && z >= -1)) {
-                        continue;
-                    }
-                    searchPos.add(worldPosition.offset(x, 0, z));
-                    searchPos.add(worldPosition.offset(x, 1, z));
-                }
-            }
-        }
-
-        for (BlockPos pos : searchPos) {
-            BlockState state = level.getBlockState(pos);
-            if (!state.canBeReplaced()) {
-                return false;
-            }
-        }
-        return true;
+        return HPRecipeIndex.hasRecipe(level, HPRecipes.CHOPPING_TYPE.get(), stack);
     }
 
     @Override
@@ -122,7 +89,8 @@ public class ChopperBlockEntity extends HPBlockEntityHorseBase {
     public boolean targetReached() {
         currentWindup++;
 
-        if (currentWindup >= HorsePowerConfig.pointsForWindup.get()) {
+        int windup = scheduler != null ? scheduler.pointsForWindup() : HorsePowerConfig.pointsForWindup.get();
+        if (currentWindup >= windup) {
             currentWindup = 0;
             currentItemChopTime++;
 
@@ -144,6 +112,7 @@ public class ChopperBlockEntity extends HPBlockEntityHorseBase {
 
         boolean isSameItem = !stack.isEmpty() && ItemStack.isSameItemSameComponents(stack, oldStack);
         if (slot == 0 && !isSameItem) {
+            recipeCache.invalidate();
             totalItemChopTime = getRecipeTime();
             currentItemChopTime = 0;
             currentWindup = 0;
@@ -162,6 +131,7 @@ public class ChopperBlockEntity extends HPBlockEntityHorseBase {
                 output.grow(result.getCount());
             }
 
+            ItemProcessedEvent.emit(this, input, result);
             input.shrink(1);
             setChanged();
         }
@@ -172,16 +142,19 @@ public class ChopperBlockEntity extends HPBlockEntityHorseBase {
         return getRecipe().map(r -> r.value().getResult().copy()).orElse(ItemStack.EMPTY);
     }
 
+    @Override
+    protected ItemStack peekRecipeOutput() {
+        Optional<RecipeHolder<ChoppingRecipe>> recipe = getRecipe();
+        return recipe.isPresent() ? recipe.get().value().getResult() : ItemStack.EMPTY;
+    }
+
     @Override
     public int getRecipeTime() {
         return getRecipe().map(r -> r.value().getTime()).orElse(1);
     }
 
     public Optional<RecipeHolder<ChoppingRecipe>> getRecipe() {
-        if (!(level instanceof ServerLevel serverLevel)) return Optional.empty();
-        HPRecipeInput recipeInput = new HPRecipeInput(getItem(0));
-        return ((RecipeManager) serverLevel.recipeAccess())
-                .getRecipeFor(HPRecipes.CHOPPING_TYPE.get(), recipeInput, serverLevel);
+        return recipeCache.get(this, getItem(0));
     }
 
     @Override
@@ -199,6 +172,19 @@ public class ChopperBlockEntity extends HPBlockEntityHorseBase {
         return 1;
     }
 
+    @Override
+    protected int[] getSyncProgress() {
+        return new int[]{currentWindup, currentItemChopTime, totalItemChopTime};
+    }
+
+    @Override
+    protected void applySyncProgress(int[] progress) {
+        if (progress.length < 3) return;
+        currentWindup = progress[0];
+        currentItemChopTime = progress[1];
+        totalItemChopTime = progress[2];
+    }
+
     public int getCurrentChopTime() {
         return currentItemChopTime;
     }
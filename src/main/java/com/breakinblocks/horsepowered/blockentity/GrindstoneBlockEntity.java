@@ -1,14 +1,13 @@
 package com.breakinblocks.horsepowered.blockentity;
 
+import com.breakinblocks.horsepowered.profiling.jfr.ItemProcessedEvent;
 import com.breakinblocks.horsepowered.recipes.GrindstoneRecipe;
-import com.breakinblocks.horsepowered.recipes.HPRecipeInput;
+import com.breakinblocks.horsepowered.recipes.HPRecipeIndex;
 import com.breakinblocks.horsepowered.recipes.HPRecipes;
-import com.google.common.collect.Lists;
+import com.breakinblocks.horsepowered.recipes.RecipeCache;
 import net.minecraft.core.BlockPos;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 import net.minecraft.world.level.block.state.BlockState;
@@ -19,6 +18,7 @@ public class GrindstoneBlockEntity extends HPBlockEntityHorseBase {
 
     private int currentItemMillTime;
     private int totalItemMillTime;
+    private final RecipeCache<GrindstoneRecipe> recipeCache = new RecipeCache<>(HPRecipes.GRINDING_TYPE);
 
     // Client-side rendering
     public ItemStack renderStack = ItemStack.EMPTY;
@@ -55,35 +55,6 @@ public class GrindstoneBlockEntity extends HPBlockEntityHorseBase {
         super.setChanged();
     }
 
-    @Override
-    public boolean validateArea() {
-        if (level == null) return false;
-
-        if (searchPos == null) {
-            searchPos = Lists.newArrayList();
-
-            for (int x = -3; x <= 3; x++) {
-                for (int z = -3; z <= 3; z++) {
-                    // Skip center area (3x3 around the grindstone)
-                    if ((x <= 1 && x >= -1) && (z <= 1 && z >= -1)) {
-                        continue;
-                    }
-                    // Check Y=0 (where horse walks) and Y=1 (horse head clearance)
-                    searchPos.add(worldPosition.offset(x, 0, z));
-                    searchPos.add(worldPosition.offset(x, 1, z));
-                }
-            }
-        }
-
-        for (BlockPos pos : searchPos) {
-            BlockState state = level.getBlockState(pos);
-            if (!state.canBeReplaced()) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     @Override
     public boolean targetReached() {
         currentItemMillTime++;
@@ -108,6 +79,18 @@ public class GrindstoneBlockEntity extends HPBlockEntityHorseBase {
         return getRecipe().map(r -> r.value().getSecondary().copy()).orElse(ItemStack.EMPTY);
     }
 
+    @Override
+    protected ItemStack peekRecipeOutput() {
+        Optional<RecipeHolder<GrindstoneRecipe>> recipe = getRecipe();
+        return recipe.isPresent() ? recipe.get().value().getResult() : ItemStack.EMPTY;
+    }
+
+    @Override
+    protected ItemStack peekRecipeSecondary() {
+        Optional<RecipeHolder<GrindstoneRecipe>> recipe = getRecipe();
+        return recipe.isPresent() ? recipe.get().value().getSecondary() : ItemStack.EMPTY;
+    }
+
     @Override
     public int getRecipeSecondaryChance() {
         return getRecipe().map(r -> r.value().getSecondaryChance()).orElse(0);
@@ -119,10 +102,7 @@ public class GrindstoneBlockEntity extends HPBlockEntityHorseBase {
     }
 
     public Optional<RecipeHolder<GrindstoneRecipe>> getRecipe() {
-        if (!(level instanceof ServerLevel serverLevel)) return Optional.empty();
-        HPRecipeInput recipeInput = new HPRecipeInput(getItem(0));
-        return ((RecipeManager) serverLevel.recipeAccess())
-                .getRecipeFor(HPRecipes.GRINDING_TYPE.get(), recipeInput, serverLevel);
+        return recipeCache.get(this, getItem(0));
     }
 
     @Override
@@ -153,6 +133,7 @@ public class GrindstoneBlockEntity extends HPBlockEntityHorseBase {
             // Process secondary output
             processSecondaries(secondary, secondaryOutput, recipe.getSecondaryChance());
 
+            ItemProcessedEvent.emit(this, input, result);
             input.shrink(1);
             setChanged();
         }
@@ -177,6 +158,7 @@ public class GrindstoneBlockEntity extends HPBlockEntityHorseBase {
 
         boolean isSameItem = !stack.isEmpty() && ItemStack.isSameItemSameComponents(stack, oldStack);
         if (slot == 0 && !isSameItem) {
+            recipeCache.invalidate();
             totalItemMillTime = getRecipeTime();
             currentItemMillTime = 0;
         }
@@ -190,12 +172,7 @@ public class GrindstoneBlockEntity extends HPBlockEntityHorseBase {
     @Override
     public boolean isItemValidForSlot(int index, ItemStack stack) {
         if (index != 0) return false;
-        if (!(level instanceof ServerLevel serverLevel)) return false;
-
-        HPRecipeInput recipeInput = new HPRecipeInput(stack);
-        return ((RecipeManager) serverLevel.recipeAccess())
-                .getRecipeFor(HPRecipes.GRINDING_TYPE.get(), recipeInput, serverLevel)
-                .isPresent();
+        return HPRecipeIndex.hasRecipe(level, HPRecipes.GRINDING_TYPE.get(), stack);
     }
 
     @Override
@@ -203,6 +180,18 @@ public class GrindstoneBlockEntity extends HPBlockEntityHorseBase {
         return 2;
     }
 
+    @Override
+    protected int[] getSyncProgress() {
+        return new int[]{currentItemMillTime, totalItemMillTime};
+    }
+
+    @Override
+    protected void applySyncProgress(int[] progress) {
+        if (progress.length < 2) return;
+        currentItemMillTime = progress[0];
+        totalItemMillTime = progress[1];
+    }
+
     public int getCurrentMillTime() {
         return currentItemMillTime;
     }
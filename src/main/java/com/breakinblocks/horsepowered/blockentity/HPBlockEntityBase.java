@@ -1,5 +1,9 @@
 package com.breakinblocks.horsepowered.blockentity;
 
+import com.breakinblocks.horsepowered.network.HPNetwork;
+import com.breakinblocks.horsepowered.network.MachineSyncPayload;
+import com.breakinblocks.horsepowered.network.SyncScheduler;
+import com.breakinblocks.horsepowered.profiling.jfr.SyncFlushEvent;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
@@ -8,6 +12,7 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 import net.minecraft.world.Container;
@@ -20,10 +25,22 @@ import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+
 public abstract class HPBlockEntityBase extends BlockEntity implements Container, WorldlyContainer {
 
     protected NonNullList<ItemStack> itemStacks;
     protected Direction forward = Direction.NORTH;
+    // Bumped whenever the inventory may have changed, so renderers can tell when to re-resolve item models
+    private int inventoryRevision = 0;
+
+    // What the tracking clients were last sent, so updates only carry the fields that changed
+    private ItemStack[] syncedStacks;
+    private int[] syncedProgress = NO_PROGRESS;
+    private long nextProgressSyncTick = Long.MIN_VALUE;
+    protected static final int[] NO_PROGRESS = new int[0];
+    // Minimum ticks between two syncs that only carry progress counters
+    private static final int PROGRESS_SYNC_INTERVAL = 5;
 
     public HPBlockEntityBase(BlockEntityType<?> type, BlockPos pos, BlockState state, int inventorySize) {
         super(type, pos, state);
@@ -74,6 +91,7 @@ public abstract class HPBlockEntityBase extends BlockEntity implements Container
 
     @Override
     public ItemStack removeItemNoUpdate(int slot) {
+        inventoryRevision++;
         return ContainerHelper.takeItem(itemStacks, slot);
     }
 
@@ -103,6 +121,11 @@ public abstract class HPBlockEntityBase extends BlockEntity implements Container
     @Override
     public void clearContent() {
         itemStacks.clear();
+        inventoryRevision++;
+    }
+
+    public int getInventoryRevision() {
+        return inventoryRevision;
     }
 
     @Override
@@ -143,6 +166,7 @@ public abstract class HPBlockEntityBase extends BlockEntity implements Container
 
         itemStacks = NonNullList.withSize(getContainerSize(), ItemStack.EMPTY);
         ContainerHelper.loadAllItems(input, itemStacks);
+        inventoryRevision++;
 
         if (canBeRotated()) {
             String forwardName = input.getStringOr("forward", "north");
@@ -176,19 +200,101 @@ public abstract class HPBlockEntityBase extends BlockEntity implements Container
     @Override
     public void setChanged() {
         super.setChanged();
-        if (level != null && !level.isClientSide()) {
-            level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 2);
+        inventoryRevision++;
+        if (level instanceof ServerLevel) {
+            // Coalesced with any other changes this tick and sent once at the end of the tick
+            SyncScheduler.markDirty(this);
+        }
+    }
+
+    /**
+     * Sends the client-visible changes since the last sync to the players tracking this chunk.
+     * Nothing is sent if the change was server-only. Progress counters alone are sent at most
+     * once per PROGRESS_SYNC_INTERVAL ticks; they go along with any other change immediately.
+     * @return false if a rate-limited progress change is still waiting to be sent
+     */
+    public boolean flushSync(ServerLevel serverLevel) {
+        SyncFlushEvent event = new SyncFlushEvent();
+        event.begin();
+        MachineSyncPayload.Builder delta = new MachineSyncPayload.Builder(worldPosition);
+        writeSyncDelta(delta);
+
+        long gameTime = serverLevel.getGameTime();
+        int[] progress = getSyncProgress();
+        boolean progressChanged = !Arrays.equals(progress, syncedProgress);
+        boolean progressDue = !delta.isEmpty() || gameTime >= nextProgressSyncTick;
+        if (progressChanged && progressDue) {
+            syncedProgress = progress;
+            nextProgressSyncTick = gameTime + PROGRESS_SYNC_INTERVAL;
+            delta.progress(progress);
+        }
+
+        if (!delta.isEmpty()) {
+            MachineSyncPayload payload = delta.build();
+            HPNetwork.sendToTracking(serverLevel, payload);
+            event.report(this, payload);
+        }
+        return !progressChanged || progressDue;
+    }
+
+    /**
+     * Adds every synced field other than the progress counters that differs from what was last
+     * sent, and remembers the new values.
+     */
+    protected void writeSyncDelta(MachineSyncPayload.Builder delta) {
+        if (syncedStacks == null || syncedStacks.length != itemStacks.size()) {
+            syncedStacks = new ItemStack[itemStacks.size()];
+            Arrays.fill(syncedStacks, ItemStack.EMPTY);
+        }
+        for (int i = 0; i < syncedStacks.length; i++) {
+            ItemStack stack = itemStacks.get(i);
+            if (!ItemStack.matches(syncedStacks[i], stack)) {
+                syncedStacks[i] = stack.copy();
+                delta.slot(i, syncedStacks[i]);
+            }
         }
     }
 
+    /**
+     * Applies a delta received from the server on the client.
+     */
+    public void applySyncDelta(MachineSyncPayload delta) {
+        if (delta.has(MachineSyncPayload.SLOTS)) {
+            int[] slots = delta.slotIndices();
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] < itemStacks.size()) {
+                    itemStacks.set(slots[i], delta.slotStacks().get(i));
+                }
+            }
+            inventoryRevision++;
+        }
+        if (delta.has(MachineSyncPayload.PROGRESS)) {
+            applySyncProgress(delta.progress());
+        }
+    }
+
+    /**
+     * Progress counters the client needs for rendering, in a fixed order per machine.
+     */
+    protected int[] getSyncProgress() {
+        return NO_PROGRESS;
+    }
+
+    /**
+     * Restores the counters written by getSyncProgress() on the client.
+     */
+    protected void applySyncProgress(int[] progress) {
+    }
+
     // Recipe and work logic
     public boolean canWork() {
         if (getItem(0).isEmpty()) {
             return false;
         }
 
-        ItemStack output = getRecipeOutput();
-        ItemStack secondary = getRecipeSecondary();
+        // Runs every tick, so it compares against the recipe's own stacks instead of copies
+        ItemStack output = peekRecipeOutput();
+        ItemStack secondary = peekRecipeSecondary();
 
         if (output.isEmpty()) {
             return false;
@@ -235,6 +341,20 @@ public abstract class HPBlockEntityBase extends BlockEntity implements Container
         return ItemStack.EMPTY;
     }
 
+    /**
+     * Like getRecipeOutput(), but may return the recipe's own stack, which must not be modified.
+     */
+    protected ItemStack peekRecipeOutput() {
+        return getRecipeOutput();
+    }
+
+    /**
+     * Like getRecipeSecondary(), but may return the recipe's own stack, which must not be modified.
+     */
+    protected ItemStack peekRecipeSecondary() {
+        return getRecipeSecondary();
+    }
+
     public int getRecipeSecondaryChance() {
         return 0;
     }
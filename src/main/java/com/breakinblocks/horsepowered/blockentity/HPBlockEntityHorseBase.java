@@ -1,59 +1,92 @@
 package com.breakinblocks.horsepowered.blockentity;
 
 import com.breakinblocks.horsepowered.HorsePowerMod;
+import com.breakinblocks.horsepowered.config.HorsePowerConfig;
+import com.breakinblocks.horsepowered.network.MachineSyncPayload;
+import com.breakinblocks.horsepowered.profiling.MachineProfiler;
+import com.breakinblocks.horsepowered.profiling.jfr.AreaValidationEvent;
+import com.breakinblocks.horsepowered.profiling.jfr.WorkerFoundEvent;
+import com.breakinblocks.horsepowered.profiling.jfr.WorkerLostEvent;
 import com.breakinblocks.horsepowered.util.Utils;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.Containers;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.animal.equine.AbstractHorse;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 import net.minecraft.world.phys.AABB;
-import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HPBlockEntityHorseBase.class);
 
+    // Debug log sampling: a machine logs during at most one tick per configured interval
+    private long debugSampleTick = -1L;
+    private long nextDebugSampleTick = Long.MIN_VALUE;
+
     // NBT tag key used to mark entities as horse-powered workers (persists with entity like a name tag)
-    private static final String WORKER_TAG = HorsePowerMod.MOD_ID + ":worker";
+    static final String WORKER_TAG = HorsePowerMod.MOD_ID + ":worker";
 
     // 8-point square path around the block (symmetric)
-    // Values are multiplied by 2 in getPathPosition(), so 1.5 = 3 blocks from center
+    // Values are multiplied by 2 for pathX/pathZ, so 1.5 = 3 blocks from center
     protected static final double[][] PATH = {
             {-1.5, -1.5}, {0, -1.5}, {1.5, -1.5}, {1.5, 0},
             {1.5, 1.5}, {0, 1.5}, {-1.5, 1.5}, {-1.5, 0}
     };
 
-    protected AABB[] searchAreas = new AABB[8];
-    protected List<BlockPos> searchPos = null;
+    // World coordinates of the path points, fixed for the machine's position
+    private final double[] pathX = new double[PATH.length];
+    private final double[] pathZ = new double[PATH.length];
     protected int origin = -1;
     protected int target = -1;
 
     protected boolean hasWorker = false;
     protected PathfinderMob worker;
+    // hasWorker() result while tickServer() runs, since it asks several times
+    private boolean ticking = false;
+    private boolean workerChecked = false;
+    private boolean workerCheckResult = false;
+    // Path points reached while working, see getPathPointsReached()
+    private long pathPointsReached = 0L;
     // UUID storage (replacing CompoundTag nbtWorker)
     protected long workerUuidMost = 0L;
     protected long workerUuidLeast = 0L;
     protected boolean hasStoredWorkerUuid = false;
+    @Nullable
+    private UUID storedWorkerUuid;
+    // Worker handed over by WorkerReconnector when it loaded, taken on the next server tick
+    @Nullable
+    private PathfinderMob offeredWorker;
 
     protected boolean valid = false;
-    protected int validationTimer = 0;
+    // Worker and valid state last sent to tracking clients
+    private boolean syncedWorkerState = false;
+    private boolean syncedValid = false;
+    private long syncedWorkerUuidMost = 0L;
+    private long syncedWorkerUuidLeast = 0L;
+    // Game time of the next safety net area check, a deadline so it still holds while the machine sleeps
+    protected long nextAreaCheckTick = Long.MIN_VALUE;
+    // Set when the working area needs a full check; block changes in the ring are pushed by WorkingAreaTracker
+    protected boolean areaDirty = true;
     protected int locateHorseTimer = 0;
     protected boolean running = true;
     protected boolean wasRunning = false;
@@ -62,15 +95,96 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
     // during world load when entities might not be fully initialized
     protected int workerGracePeriod = 0;
     private static final int WORKER_GRACE_TICKS = 200; // 10 seconds grace period
-    private static final int LOCATE_TIMER_FAST = 20;   // During grace period, search every second
-    private static final int LOCATE_TIMER_SLOW = 120;  // After grace period, search every 6 seconds
+    // Loading workers are pushed by WorkerReconnector, so the lookup is only a slow fallback
+    private static final int LOCATE_TIMER = 120; // Search every 6 seconds
+    // Each search that misses doubles the delay up to this (2 minutes)
+    private static final int LOCATE_TIMER_MAX = 2400;
+    // Searches that missed in a row, for the backoff
+    private int workerSearchFailures = 0;
+
+    // Missed UUID lookups before falling back to an area scan around the machine
+    protected int workerLookupMisses = 0;
+    private static final int SERVER_FALLBACK_SCAN_INTERVAL = 10; // Server looks up every 20-120 ticks
+    private static final int CLIENT_FALLBACK_SCAN_INTERVAL = 100; // Client looks up every tick
+
+    // Working area: a ring out to AREA_RADIUS blocks around the machine, two blocks high
+    public static final int AREA_RADIUS = 3;
+    // Offsets of every working area block relative to the machine, packed with BlockPos.asLong
+    protected static final long[] AREA_OFFSETS = buildAreaOffsets();
+    // Full recheck as a safety net for block changes that don't notify neighbours (1 minute)
+    private static final int AREA_REVALIDATE_INTERVAL = 1200;
+
+    // Idle machines stop ticking until woken by setChanged() or a block change in the ring
+    private boolean sleeping = false;
+    private long sleepUntil = 0L;
+    // Dormant machines still tick this often, to notice a dead worker and as a safety net (5 seconds)
+    private static final int SLEEP_RECHECK_INTERVAL = 100;
+
+    // Set while the machine is ticked by its level's MachineScheduler
+    @Nullable
+    MachineScheduler scheduler;
+    boolean inSchedulerBatch = false;
+
+    // Direct position control moves the worker this far per tick (about 2.4 blocks/sec)
+    private static final double WORKER_SPEED = 0.12D;
+    // Path points are 3 blocks apart, so a worker reaches one about every 25 ticks
+    private static final int TICKS_PER_POINT = (int) Math.ceil(3.0D / WORKER_SPEED);
+    // Game time of the last save while working, to catch up on the time the chunk was unloaded
+    private long catchUpFrom = -1L;
+    // Unloaded ticks still to catch up on, once the worker has reconnected
+    private long catchUpTicks = 0L;
+
+    // Virtual worker movement: the worker's path point follows from the game time since orbitStart
+    private long orbitStart = -1L;
+    private int orbitPoint = 0;
+    // Path points credited since orbitStart, and the last tick the orbit ran to spot skipped ticks
+    private long orbitPointsCredited = 0L;
+    private long lastOrbitTick = Long.MIN_VALUE;
+    private long syncedOrbitStart = -1L;
+    private int syncedOrbitPoint = 0;
+    // Movement mode forced on this machine instead of the config, not saved
+    @Nullable
+    private Boolean virtualMovementOverride;
 
     // Client-side highlight rendering
     protected int highlightTimer = 0;
     public static final int HIGHLIGHT_DURATION = 100; // 5 seconds
+    private final BitSet workingAreaClear = new BitSet(AREA_OFFSETS.length);
 
     public HPBlockEntityHorseBase(BlockEntityType<?> type, BlockPos pos, BlockState state, int inventorySize) {
         super(type, pos, state, inventorySize);
+        for (int i = 0; i < PATH.length; i++) {
+            // Add 0.5 to center on the block (block positions are at corners)
+            pathX[i] = pos.getX() + 0.5D + PATH[i][0] * 2;
+            pathZ[i] = pos.getZ() + 0.5D + PATH[i][1] * 2;
+        }
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        WorkingAreaTracker.add(this);
+        MachineScheduler.add(this);
+        WorkerReconnector.claim(this);
+        areaDirty = true;
+        // Spread the first worker lookups of the machines in freshly loaded chunks over several ticks
+        if (level != null && !level.isClientSide()) {
+            locateHorseTimer = 1 + level.getRandom().nextInt(LOCATE_TIMER);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        WorkingAreaTracker.remove(this);
+        MachineScheduler.remove(this);
+        super.setRemoved();
+    }
+
+    @Override
+    public void setChanged() {
+        super.setChanged();
+        // Hopper and player inventory changes, new workers and finished items all end up here
+        wake();
     }
 
     @Override
@@ -83,10 +197,82 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
         super.preRemoveSideEffects(pos, state);
     }
 
+    private static long[] buildAreaOffsets() {
+        LongArrayList offsets = new LongArrayList();
+        for (int x = -AREA_RADIUS; x <= AREA_RADIUS; x++) {
+            for (int z = -AREA_RADIUS; z <= AREA_RADIUS; z++) {
+                // Skip center area (3x3 around the machine)
+                if ((x <= 1 && x >= -1) && (z <= 1 && z >= -1)) {
+                    continue;
+                }
+                // Check Y=0 (where horse walks) and Y=1 (horse head clearance)
+                offsets.add(BlockPos.asLong(x, 0, z));
+                offsets.add(BlockPos.asLong(x, 1, z));
+            }
+        }
+        return offsets.toLongArray();
+    }
+
     /**
      * Validates that the area around the block is clear for the horse to walk
      */
-    public abstract boolean validateArea();
+    public boolean validateArea() {
+        if (level == null) return false;
+        boolean profiling = MachineProfiler.begin();
+        AreaValidationEvent event = new AreaValidationEvent();
+        event.begin();
+        boolean clear = isAreaClear(level, worldPosition);
+        event.report(this, clear);
+        if (profiling) MachineProfiler.end(MachineProfiler.Section.VALIDATE_AREA, this);
+        return clear;
+    }
+
+    /**
+     * Whether every block of the working area around the given machine position can be walked through.
+     */
+    public static boolean isAreaClear(BlockGetter level, BlockPos center) {
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (long offset : AREA_OFFSETS) {
+            cursor.setWithOffset(center, BlockPos.getX(offset), BlockPos.getY(offset), BlockPos.getZ(offset));
+            if (!level.getBlockState(cursor).canBeReplaced()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the position is part of the ring that validateArea() checks.
+     */
+    public boolean isInWorkingArea(BlockPos pos) {
+        int dx = pos.getX() - worldPosition.getX();
+        int dy = pos.getY() - worldPosition.getY();
+        int dz = pos.getZ() - worldPosition.getZ();
+        if (dy < 0 || dy > 1 || Math.abs(dx) > AREA_RADIUS || Math.abs(dz) > AREA_RADIUS) {
+            return false;
+        }
+        // The 3x3 around the machine itself is not part of the path
+        return Math.abs(dx) > 1 || Math.abs(dz) > 1;
+    }
+
+    /**
+     * Called by WorkingAreaTracker when a block changed in a chunk this machine's ring covers.
+     * A new obstruction invalidates the area right away. A cleared one can't tell whether the
+     * rest of the ring is clear, so it only schedules a full check for the next tick.
+     */
+    public void onWorkingAreaChanged(BlockPos pos, BlockState state) {
+        if (!isInWorkingArea(pos)) return;
+        wake();
+
+        if (!state.canBeReplaced()) {
+            if (valid) {
+                valid = false;
+                setChanged();
+            }
+        } else if (!valid) {
+            areaDirty = true;
+        }
+    }
 
     /**
      * Called when the horse reaches a target point in the path
@@ -107,6 +293,9 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
         origin = input.getIntOr("origin", -1);
         hasWorker = input.getBooleanOr("hasWorker", false);
         valid = input.getBooleanOr("valid", false);
+        catchUpFrom = input.getLongOr("catchUpFrom", -1L);
+        orbitStart = input.getLongOr("orbitStart", -1L);
+        orbitPoint = input.getIntOr("orbitPoint", 0);
 
         // Always load the worker UUID if present - hasWorker flag may be stale
         // but we can still try to find the worker by UUID
@@ -117,9 +306,10 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
             // Set grace period on load to prevent false "worker lost" triggers
             // during world load when entities might not be fully initialized yet
             workerGracePeriod = WORKER_GRACE_TICKS;
-            UUID uuid = new UUID(workerUuidMost, workerUuidLeast);
-            LOGGER.info("[HorsePowered] loadAdditional at {}: Loaded worker UUID={}, hasWorker={}", worldPosition, uuid, hasWorker);
-        } else {
+            if (shouldLogDebug()) {
+                LOGGER.info("[HorsePowered] loadAdditional at {}: Loaded worker UUID={}, hasWorker={}", worldPosition, getStoredWorkerUuid(), hasWorker);
+            }
+        } else if (shouldLogDebug()) {
             LOGGER.info("[HorsePowered] loadAdditional at {}: No worker UUID found, hasWorker={}", worldPosition, hasWorker);
         }
     }
@@ -131,6 +321,12 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
         output.putInt("target", target);
         output.putInt("origin", origin);
         output.putBoolean("valid", valid);
+        // Written on every save, so the last one before the chunk unloads tells how long it was gone.
+        // The worker may already be unloaded by then, so only the reference is checked. running is
+        // the state of the last tick, so saving doesn't run a recipe check.
+        if (level != null && valid && running && worker != null && HorsePowerConfig.maxCatchUpTicks.get() > 0) {
+            output.putLong("catchUpFrom", level.getGameTime());
+        }
 
         // Update stored UUID from current worker if available
         if (worker != null) {
@@ -145,20 +341,157 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
         if (hasStoredWorkerUuid) {
             output.putLong("workerUuidMost", workerUuidMost);
             output.putLong("workerUuidLeast", workerUuidLeast);
-            UUID uuid = new UUID(workerUuidMost, workerUuidLeast);
-            LOGGER.info("[HorsePowered] saveAdditional at {}: Saving worker UUID={}", worldPosition, uuid);
-        } else {
+            if (shouldLogDebug()) {
+                LOGGER.info("[HorsePowered] saveAdditional at {}: Saving worker UUID={}", worldPosition, getStoredWorkerUuid());
+            }
+        } else if (shouldLogDebug()) {
             LOGGER.info("[HorsePowered] saveAdditional at {}: No worker UUID to save", worldPosition);
         }
     }
 
+    @Override
+    public CompoundTag getUpdateTag(HolderLookup.Provider registries) {
+        CompoundTag tag = super.getUpdateTag(registries);
+        // Server-only, clients never catch up
+        tag.remove("catchUpFrom");
+        // Only clients need the orbit, a machine loaded from disk starts a new one
+        if (orbitStart >= 0L) {
+            tag.putLong("orbitStart", orbitStart);
+            tag.putInt("orbitPoint", orbitPoint);
+        }
+        return tag;
+    }
+
+    /**
+     * Whether this machine may write debug log lines right now.
+     * Debug logging is off unless enabled in the config, and each machine is sampled at most
+     * once per debugLogInterval ticks so busy worlds don't flood the log. Callers should check
+     * this before building any log arguments so nothing is allocated when it's off.
+     * While loading from disk there is no level clock yet, so only the config gate applies.
+     */
+    protected boolean shouldLogDebug() {
+        MachineScheduler scheduler = this.scheduler;
+        if (scheduler != null ? !scheduler.debugLogging() : !HorsePowerConfig.debugLogging.get()) return false;
+        if (level == null) return true;
+
+        long gameTime = scheduler != null ? scheduler.gameTime() : level.getGameTime();
+        if (gameTime == debugSampleTick) return true;
+        if (gameTime >= nextDebugSampleTick) {
+            debugSampleTick = gameTime;
+            nextDebugSampleTick = gameTime + HorsePowerConfig.debugLogInterval.get();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the stored worker UUID, reusing the last built instance while the stored bits are unchanged.
+     */
+    private UUID getStoredWorkerUuid() {
+        UUID uuid = storedWorkerUuid;
+        if (uuid == null || uuid.getMostSignificantBits() != workerUuidMost || uuid.getLeastSignificantBits() != workerUuidLeast) {
+            uuid = new UUID(workerUuidMost, workerUuidLeast);
+            storedWorkerUuid = uuid;
+        }
+        return uuid;
+    }
+
+    @Override
+    protected void writeSyncDelta(MachineSyncPayload.Builder delta) {
+        super.writeSyncDelta(delta);
+
+        long uuidMost = hasStoredWorkerUuid ? workerUuidMost : 0L;
+        long uuidLeast = hasStoredWorkerUuid ? workerUuidLeast : 0L;
+        if (!syncedWorkerState || syncedValid != valid || syncedWorkerUuidMost != uuidMost || syncedWorkerUuidLeast != uuidLeast) {
+            syncedWorkerState = true;
+            syncedValid = valid;
+            syncedWorkerUuidMost = uuidMost;
+            syncedWorkerUuidLeast = uuidLeast;
+            delta.worker(valid, uuidMost, uuidLeast);
+        }
+        if (syncedOrbitStart != orbitStart || syncedOrbitPoint != orbitPoint) {
+            syncedOrbitStart = orbitStart;
+            syncedOrbitPoint = orbitPoint;
+            delta.orbit(orbitStart, orbitPoint);
+        }
+    }
+
+    @Override
+    public void applySyncDelta(MachineSyncPayload delta) {
+        super.applySyncDelta(delta);
+
+        if (delta.has(MachineSyncPayload.WORKER)) {
+            valid = delta.valid();
+            if (delta.workerUuidMost() != workerUuidMost || delta.workerUuidLeast() != workerUuidLeast) {
+                // Different worker (or none) - drop the old reference so tickClient looks it up again
+                worker = null;
+                workerLookupMisses = 0;
+            }
+            workerUuidMost = delta.workerUuidMost();
+            workerUuidLeast = delta.workerUuidLeast();
+            hasStoredWorkerUuid = workerUuidMost != 0L || workerUuidLeast != 0L;
+            hasWorker = hasStoredWorkerUuid;
+        }
+        if (delta.has(MachineSyncPayload.ORBIT)) {
+            orbitStart = delta.orbitStart();
+            orbitPoint = delta.orbitPoint();
+        }
+    }
+
     /**
      * Attempts to find the worker entity by UUID
      */
     private boolean findWorker() {
         if (!hasStoredWorkerUuid || level == null) return false;
 
-        UUID uuid = new UUID(workerUuidMost, workerUuidLeast);
+        // Direct lookup in the level's entity UUID index; the area scan is only a rare fallback
+        PathfinderMob found = lookupWorkerByUuid();
+        boolean scanned = false;
+        if (found == null && ++workerLookupMisses >= SERVER_FALLBACK_SCAN_INTERVAL) {
+            workerLookupMisses = 0;
+            found = scanForWorker();
+            scanned = true;
+        }
+
+        if (found != null) {
+            workerLookupMisses = 0;
+            WorkerFoundEvent.emit(this, found, scanned);
+            // Found the worker by UUID - reconnect even if tag check fails
+            // (the tag might not be loaded yet, or modpack removed the entity from tag)
+            if (shouldLogDebug()) {
+                LOGGER.info("[HorsePowered] findWorker at {}: FOUND worker {} with UUID={}", worldPosition, found.getClass().getSimpleName(), found.getUUID());
+            }
+            setWorker(found);
+            // setWorker already calls markWorkerPersistent which sets setPersistenceRequired
+            // and stores our marker in the entity's persistent data
+            return true;
+        }
+
+        if (shouldLogDebug()) {
+            LOGGER.info("[HorsePowered] findWorker at {}: Worker with UUID={} NOT FOUND!", worldPosition, getStoredWorkerUuid());
+        }
+        return false;
+    }
+
+    /**
+     * Looks the stored worker UUID up in the level's entity index.
+     * On the server this is the ServerLevel UUID map, on the client the ClientLevel one.
+     */
+    @Nullable
+    private PathfinderMob lookupWorkerByUuid() {
+        if (level == null) return null;
+        Entity entity = level.getEntity(getStoredWorkerUuid());
+        return entity instanceof PathfinderMob mob ? mob : null;
+    }
+
+    /**
+     * Scans the area around the machine for the stored worker UUID.
+     * Only used as a throttled fallback when the UUID lookup keeps missing.
+     */
+    @Nullable
+    private PathfinderMob scanForWorker() {
+        if (level == null) return null;
+
         int x = worldPosition.getX();
         int y = worldPosition.getY();
         int z = worldPosition.getZ();
@@ -171,31 +504,55 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
         List<PathfinderMob> allCreatures = level.getEntitiesOfClass(PathfinderMob.class, searchArea);
 
         // Log what entities we found for debugging
-        if (allCreatures.isEmpty()) {
-            LOGGER.info("[HorsePowered] findWorker at {}: Searching for UUID={}, NO creatures found in area!", worldPosition, uuid);
-        } else {
-            StringBuilder sb = new StringBuilder();
-            for (PathfinderMob c : allCreatures) {
-                if (sb.length() > 0) sb.append(", ");
-                sb.append(c.getClass().getSimpleName()).append("(").append(c.getUUID().toString().substring(0, 8)).append("...)");
+        if (shouldLogDebug()) {
+            if (allCreatures.isEmpty()) {
+                LOGGER.info("[HorsePowered] scanForWorker at {}: Searching for UUID={}, NO creatures found in area!", worldPosition, getStoredWorkerUuid());
+            } else {
+                StringBuilder sb = new StringBuilder();
+                for (PathfinderMob c : allCreatures) {
+                    if (sb.length() > 0) sb.append(", ");
+                    sb.append(c.getClass().getSimpleName()).append("(").append(c.getUUID().toString().substring(0, 8)).append("...)");
+                }
+                LOGGER.info("[HorsePowered] scanForWorker at {}: Searching for UUID={}, found {} creatures: {}", worldPosition, getStoredWorkerUuid(), allCreatures.size(), sb);
             }
-            LOGGER.info("[HorsePowered] findWorker at {}: Searching for UUID={}, found {} creatures: {}", worldPosition, uuid, allCreatures.size(), sb);
         }
 
         for (PathfinderMob creature : allCreatures) {
-            if (creature.getUUID().equals(uuid)) {
-                // Found the worker by UUID - reconnect even if tag check fails
-                // (the tag might not be loaded yet, or modpack removed the entity from tag)
-                LOGGER.info("[HorsePowered] findWorker at {}: FOUND worker {} with UUID={}", worldPosition, creature.getClass().getSimpleName(), uuid);
-                setWorker(creature);
-                // setWorker already calls markWorkerPersistent which sets setPersistenceRequired
-                // and stores our marker in the entity's persistent data
-                return true;
+            UUID creatureUuid = creature.getUUID();
+            if (creatureUuid.getMostSignificantBits() == workerUuidMost && creatureUuid.getLeastSignificantBits() == workerUuidLeast) {
+                return creature;
             }
         }
+        return null;
+    }
 
-        LOGGER.warn("[HorsePowered] findWorker at {}: Worker with UUID={} NOT FOUND!", worldPosition, uuid);
-        return false;
+    /**
+     * Offers a loading entity as this machine's worker. Taken on the next server tick if it is the
+     * stored worker and the machine hasn't found it by then.
+     */
+    public void offerWorker(PathfinderMob mob) {
+        offeredWorker = mob;
+        wake();
+    }
+
+    /**
+     * Takes the worker offered by WorkerReconnector, if it's still the one this machine waits for.
+     */
+    private void takeOfferedWorker() {
+        PathfinderMob offered = offeredWorker;
+        offeredWorker = null;
+        // A worker reference that is still set can belong to the unloaded copy of the same entity
+        if ((worker != null && !worker.isRemoved()) || !hasStoredWorkerUuid || offered.isRemoved() || !offered.isAlive()) return;
+
+        UUID uuid = offered.getUUID();
+        if (uuid.getMostSignificantBits() != workerUuidMost || uuid.getLeastSignificantBits() != workerUuidLeast) return;
+
+        workerLookupMisses = 0;
+        WorkerFoundEvent.emit(this, offered, false);
+        if (shouldLogDebug()) {
+            LOGGER.info("[HorsePowered] takeOfferedWorker at {}: Reconnected worker {} with UUID={}", worldPosition, offered.getClass().getSimpleName(), uuid);
+        }
+        setWorker(offered);
     }
 
     /**
@@ -204,6 +561,7 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
     public void setWorker(PathfinderMob newWorker) {
         hasWorker = true;
         worker = newWorker;
+        workerChecked = false;
         // Note: restrictTo was removed in 1.21.11, but we use direct position control
         // in tickServer() anyway, so restriction is not needed
         target = getClosestTarget();
@@ -214,12 +572,15 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
         // Set grace period to prevent false "permanently lost" triggers
         // This is especially important during world load when entities might not be fully initialized
         workerGracePeriod = WORKER_GRACE_TICKS;
+        workerSearchFailures = 0;
 
         if (worker != null) {
             workerUuidMost = worker.getUUID().getMostSignificantBits();
             workerUuidLeast = worker.getUUID().getLeastSignificantBits();
             hasStoredWorkerUuid = true;
-            LOGGER.info("[HorsePowered] setWorker at {}: Worker set to {} with UUID={}", worldPosition, worker.getClass().getSimpleName(), worker.getUUID());
+            if (shouldLogDebug()) {
+                LOGGER.info("[HorsePowered] setWorker at {}: Worker set to {} with UUID={}", worldPosition, worker.getClass().getSimpleName(), worker.getUUID());
+            }
         }
         setChanged();
     }
@@ -242,7 +603,9 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
             // but won't display anything visible to the player
             mob.setCustomName(net.minecraft.network.chat.Component.literal(""));
             mob.setCustomNameVisible(false);
-            LOGGER.info("[HorsePowered] markWorkerPersistent: Set empty custom name on {} to ensure disk persistence", mob.getClass().getSimpleName());
+            if (shouldLogDebug()) {
+                LOGGER.info("[HorsePowered] markWorkerPersistent: Set empty custom name on {} to ensure disk persistence", mob.getClass().getSimpleName());
+            }
         }
 
         // Also store our own marker in the entity's persistent data
@@ -273,7 +636,9 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
             net.minecraft.network.chat.Component name = mob.getCustomName();
             if (name != null && name.getString().isEmpty()) {
                 mob.setCustomName(null);
-                LOGGER.info("[HorsePowered] clearWorkerPersistentMarker: Cleared empty custom name from {}", mob.getClass().getSimpleName());
+                if (shouldLogDebug()) {
+                    LOGGER.info("[HorsePowered] clearWorkerPersistentMarker: Cleared empty custom name from {}", mob.getClass().getSimpleName());
+                }
             }
         }
     }
@@ -290,6 +655,7 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
             clearWorkerPersistentMarker(worker);
             worker.setLeashedTo(player, true);
             worker = null;
+            workerChecked = false;
             workerUuidMost = 0L;
             workerUuidLeast = 0L;
             hasStoredWorkerUuid = false;
@@ -303,9 +669,21 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
      * For display purposes only, use hasWorkerForDisplay() instead.
      */
     public boolean hasWorker() {
+        if (!ticking) return checkWorker();
+
+        // Within a tick the answer only changes through setWorker() or setWorkerToPlayer()
+        if (!workerChecked) {
+            workerCheckResult = checkWorker();
+            workerChecked = true;
+        }
+        return workerCheckResult;
+    }
+
+    private boolean checkWorker() {
         // Allow worker to be up to 20 blocks away (400 squared) - entities might load at slightly
         // different positions after world reload
-        if (worker != null && worker.isAlive() && !worker.isLeashed() && worker.distanceToSqr(Vec3.atCenterOf(worldPosition)) < 400) {
+        if (worker != null && worker.isAlive() && !worker.isLeashed()
+                && worker.distanceToSqr(worldPosition.getX() + 0.5D, worldPosition.getY() + 0.5D, worldPosition.getZ() + 0.5D) < 400) {
             return true;
         } else {
             if (worker != null) {
@@ -313,9 +691,12 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
                 // The entity might just need to be re-found after a world reload.
                 // Only drop lead if the worker is confirmed dead or leashed to something else.
                 boolean workerPermanentlyLost = !worker.isAlive() || worker.isLeashed();
+                WorkerLostEvent.emit(this, worker, workerPermanentlyLost && workerGracePeriod <= 0);
 
-                LOGGER.debug("[HorsePowered] hasWorker at {}: Worker invalid - alive={}, leashed={}, gracePeriod={}",
-                        worldPosition, worker.isAlive(), worker.isLeashed(), workerGracePeriod);
+                if (shouldLogDebug()) {
+                    LOGGER.info("[HorsePowered] hasWorker at {}: Worker invalid - alive={}, leashed={}, gracePeriod={}",
+                            worldPosition, worker.isAlive(), worker.isLeashed(), workerGracePeriod);
+                }
 
                 // Don't consider permanently lost if we're still in the grace period
                 // This prevents false triggers during world load when entities might not be fully initialized
@@ -335,11 +716,15 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
                 } else if (workerPermanentlyLost) {
                     // Still in grace period - don't clear anything, just null the reference
                     // We'll try to find the worker again by UUID
-                    LOGGER.debug("[HorsePowered] hasWorker at {}: Worker lost but in grace period - will retry", worldPosition);
+                    if (shouldLogDebug()) {
+                        LOGGER.info("[HorsePowered] hasWorker at {}: Worker lost but in grace period - will retry", worldPosition);
+                    }
                     worker = null;
                 } else {
                     // Worker is too far but not permanently lost - just null the reference
-                    LOGGER.debug("[HorsePowered] hasWorker at {}: Worker too far - clearing reference", worldPosition);
+                    if (shouldLogDebug()) {
+                        LOGGER.info("[HorsePowered] hasWorker at {}: Worker too far - clearing reference", worldPosition);
+                    }
                     worker = null;
                 }
             }
@@ -374,6 +759,7 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
      */
     public void showWorkingAreaHighlight() {
         highlightTimer = HIGHLIGHT_DURATION;
+        refreshWorkingAreaHighlight();
     }
 
     /**
@@ -384,38 +770,47 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
     }
 
     /**
-     * Gets the list of positions that need to be clear for the working area.
-     * Returns a list of pairs: BlockPos and boolean (true = clear, false = obstructed)
+     * Number of blocks in the working area ring.
      */
-    public List<Map.Entry<BlockPos, Boolean>> getWorkingAreaPositions() {
-        List<Map.Entry<BlockPos, Boolean>> positions = new ArrayList<>();
-        if (level == null) return positions;
+    public static int getWorkingAreaSize() {
+        return AREA_OFFSETS.length;
+    }
 
-        // Build positions if not already cached
-        if (searchPos == null) {
-            validateArea(); // This builds searchPos
-        }
+    /**
+     * Offset of a working area block relative to the machine, packed with BlockPos.asLong.
+     */
+    public static long getWorkingAreaOffset(int index) {
+        return AREA_OFFSETS[index];
+    }
 
-        if (searchPos != null) {
-            for (BlockPos pos : searchPos) {
-                BlockState state = level.getBlockState(pos);
-                boolean isClear = state.canBeReplaced();
-                positions.add(Map.entry(pos, isClear));
-            }
+    /**
+     * Which working area blocks are clear, indexed like getWorkingAreaOffset().
+     * Only kept up to date on the client while the highlight is shown.
+     */
+    public BitSet getWorkingAreaHighlight() {
+        return workingAreaClear;
+    }
+
+    /**
+     * Re-reads the working area into the highlight bitset.
+     */
+    private void refreshWorkingAreaHighlight() {
+        if (level == null) return;
+
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < AREA_OFFSETS.length; i++) {
+            long offset = AREA_OFFSETS[i];
+            cursor.setWithOffset(worldPosition, BlockPos.getX(offset), BlockPos.getY(offset), BlockPos.getZ(offset));
+            workingAreaClear.set(i, level.getBlockState(cursor).canBeReplaced());
         }
-        return positions;
     }
 
     /**
-     * Gets the world position for a path index.
-     * Path is centered on the block's center (not corner).
+     * Number of path points the worker reached while the machine was working, including ones that
+     * didn't finish an item.
      */
-    private Vec3 getPathPosition(int i) {
-        // Add 0.5 to center on the block (block positions are at corners)
-        double x = worldPosition.getX() + 0.5 + PATH[i][0] * 2;
-        double y = worldPosition.getY() + getPositionOffset();
-        double z = worldPosition.getZ() + 0.5 + PATH[i][1] * 2;
-        return new Vec3(x, y, z);
+    public long getPathPointsReached() {
+        return pathPointsReached;
     }
 
     /**
@@ -425,10 +820,10 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
         if (hasWorker()) {
             double dist = Double.MAX_VALUE;
             int closest = 0;
+            double y = worldPosition.getY() + getPositionOffset();
 
             for (int i = 0; i < PATH.length; i++) {
-                Vec3 pos = getPathPosition(i);
-                double tmp = worker.distanceToSqr(pos.x, pos.y, pos.z);
+                double tmp = worker.distanceToSqr(pathX[i], y, pathZ[i]);
                 if (tmp < dist) {
                     dist = tmp;
                     closest = i;
@@ -444,7 +839,11 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
      * Server tick logic for horse-powered operation
      */
     public static <T extends HPBlockEntityHorseBase> void serverTick(Level level, BlockPos pos, BlockState state, T blockEntity) {
+        if (blockEntity.sleeping && level.getGameTime() < blockEntity.sleepUntil) return;
+
+        boolean profiling = MachineProfiler.begin();
         blockEntity.tickServer();
+        if (profiling) MachineProfiler.end(MachineProfiler.Section.HORSE_TICK, blockEntity);
     }
 
     /**
@@ -455,15 +854,21 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
     }
 
     protected void tickClient() {
-        // Tick down highlight timer
+        // Tick down highlight timer, picking up block changes in the area once per tick while it's shown
         if (highlightTimer > 0) {
             highlightTimer--;
+            refreshWorkingAreaHighlight();
         }
 
         // Try to find worker entity on client for rendering
         if (worker == null && hasStoredWorkerUuid && level != null) {
             findWorkerClient();
         }
+
+        // A virtually moving worker is moved along the path here, the server only places it on path points
+        if (orbitStart >= 0L && worker != null && level != null) {
+            moveVirtualWorker(level.getGameTime());
+        }
     }
 
     /**
@@ -473,46 +878,51 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
     private void findWorkerClient() {
         if (!hasStoredWorkerUuid || level == null) return;
 
-        UUID uuid = new UUID(workerUuidMost, workerUuidLeast);
-        int x = worldPosition.getX();
-        int y = worldPosition.getY();
-        int z = worldPosition.getZ();
-
-        // Use same search radius as server for consistency
-        AABB searchArea = new AABB(x - 48.0D, y - 16.0D, z - 48.0D, x + 48.0D, y + 16.0D, z + 48.0D);
-        List<PathfinderMob> creatures = level.getEntitiesOfClass(PathfinderMob.class, searchArea);
-
-        for (PathfinderMob creature : creatures) {
-            if (creature.getUUID().equals(uuid)) {
-                worker = creature;
-                return;
-            }
+        // Runs every tick until found, so only fall back to the area scan every few seconds
+        PathfinderMob found = lookupWorkerByUuid();
+        if (found == null && ++workerLookupMisses >= CLIENT_FALLBACK_SCAN_INTERVAL) {
+            workerLookupMisses = 0;
+            found = scanForWorker();
+        }
+        if (found != null) {
+            workerLookupMisses = 0;
+            worker = found;
         }
     }
 
     protected void tickServer() {
+        ticking = true;
+        workerChecked = false;
+
+        if (catchUpFrom >= 0L) {
+            // Measured on the first tick, but only applied once the worker is back
+            catchUpTicks = Math.min(level.getGameTime() - catchUpFrom, HorsePowerConfig.maxCatchUpTicks.get());
+            catchUpFrom = -1L;
+        }
+
         // Decrement grace period (protects against false "worker lost" triggers during world load)
         if (workerGracePeriod > 0) {
             workerGracePeriod--;
-            if (workerGracePeriod == 0 && hasStoredWorkerUuid && worker == null) {
-                UUID uuid = new UUID(workerUuidMost, workerUuidLeast);
-                LOGGER.warn("[HorsePowered] tickServer at {}: Grace period EXPIRED, worker UUID={} still not found!", worldPosition, uuid);
+            if (workerGracePeriod == 0 && hasStoredWorkerUuid && worker == null && shouldLogDebug()) {
+                LOGGER.info("[HorsePowered] tickServer at {}: Grace period EXPIRED, worker UUID={} still not found!", worldPosition, getStoredWorkerUuid());
             }
         }
 
-        // Validation timer
-        validationTimer--;
-        if (validationTimer <= 0) {
-            boolean wasValid = valid;
-            valid = validateArea();
-            validationTimer = valid ? 220 : 60;
-            // Sync to client when valid state changes (for Jade tooltip)
-            if (wasValid != valid) {
-                setChanged();
+        // Full validation only when flagged by a block change in the ring, plus a slow safety net
+        if (areaDirty || level.getGameTime() >= nextAreaCheckTick) {
+            if (scheduler != null) {
+                scheduler.requestAreaCheck(this);
+            } else {
+                runAreaCheck();
             }
         }
 
         boolean flag = false;
+        boolean orbiting = false;
+
+        if (offeredWorker != null) {
+            takeOfferedWorker();
+        }
 
         // Try to find worker if we had one but lost reference
         boolean hasWorkerNow = hasWorker();
@@ -520,16 +930,26 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
             locateHorseTimer--;
         }
         if (!hasWorkerNow && hasStoredWorkerUuid && locateHorseTimer <= 0) {
-            UUID uuid = new UUID(workerUuidMost, workerUuidLeast);
-            LOGGER.info("[HorsePowered] tickServer at {}: Attempting to find worker UUID={}, gracePeriod={}", worldPosition, uuid, workerGracePeriod);
-            flag = findWorker();
-            if (!flag) {
-                LOGGER.info("[HorsePowered] tickServer at {}: Worker NOT FOUND, will retry in {} ticks", worldPosition, workerGracePeriod > 0 ? LOCATE_TIMER_FAST : LOCATE_TIMER_SLOW);
+            if (scheduler != null) {
+                scheduler.requestWorkerSearch(this);
+            } else {
+                runWorkerSearch();
             }
         }
         if (locateHorseTimer <= 0) {
-            // Search more frequently during grace period (entities may still be loading)
-            locateHorseTimer = workerGracePeriod > 0 ? LOCATE_TIMER_FAST : LOCATE_TIMER_SLOW;
+            locateHorseTimer = getLocateDelay();
+        }
+
+        if (catchUpTicks > 0L) {
+            if (hasWorkerNow) {
+                catchUp();
+            } else if (workerGracePeriod <= 0) {
+                // The worker didn't come back with the chunk, so it didn't do that work either
+                if (shouldLogDebug()) {
+                    LOGGER.info("[HorsePowered] tickServer at {}: Dropped {} ticks of catch-up, worker UUID={} not found", worldPosition, catchUpTicks, getStoredWorkerUuid());
+                }
+                catchUpTicks = 0L;
+            }
         }
 
         if (valid) {
@@ -550,18 +970,18 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
                 // This guarantees the entity won't despawn even if something else clears the flag
                 worker.setPersistenceRequired();
 
-                if (running) {
-                    Vec3 pathPos = getPathPosition(target);
-                    double x = pathPos.x;
+                if (running && useVirtualMovement()) {
+                    orbiting = true;
+                    if (tickOrbit()) {
+                        flag = true;
+                    }
+                } else if (running) {
+                    double x = pathX[target];
                     double y = worker.getY(); // Use worker's Y for collision detection
-                    double z = pathPos.z;
+                    double z = pathZ[target];
 
-                    // Create/update search area for current target using worker's Y level
-                    // We recreate it each time since the worker Y might vary slightly
-                    searchAreas[target] = new AABB(x - 0.5D, y - 0.5D, z - 0.5D, x + 0.5D, y + 1.5D, z + 0.5D);
-
-                    // Check if worker reached the target
-                    if (worker.getBoundingBox().intersects(searchAreas[target])) {
+                    // Check if worker reached the target, a block sized area at the worker's Y level
+                    if (worker.getBoundingBox().intersects(x - 0.5D, y - 0.5D, z - 0.5D, x + 0.5D, y + 1.5D, z + 0.5D)) {
                         int next = target + 1;
                         int previous = target - 1;
                         if (next >= PATH.length) next = 0;
@@ -570,6 +990,7 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
                         // Process if we moved to a new position
                         if (origin != target && target != previous) {
                             origin = target;
+                            pathPointsReached++;
                             flag = targetReached();
                         }
                         target = next;
@@ -583,20 +1004,18 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
                     // Navigate to target - use direct position control for all workers
                     // Navigation systems are unreliable, especially for tamed horses
                     if (target != -1) {
-                        pathPos = getPathPosition(target);
-
                         // Calculate direction to target
-                        double dx = pathPos.x - worker.getX();
-                        double dz = pathPos.z - worker.getZ();
+                        double dx = pathX[target] - worker.getX();
+                        double dz = pathZ[target] - worker.getZ();
                         double dist = Math.sqrt(dx * dx + dz * dz);
 
                         if (dist > 0.5) { // Only move if not already at target
                             // Normalize and calculate step toward target
-                            double speed = 0.12; // Movement per tick (about 2.4 blocks/sec)
-                            double stepX = (dx / dist) * speed;
-                            double stepZ = (dz / dist) * speed;
+                            double stepX = (dx / dist) * WORKER_SPEED;
+                            double stepZ = (dz / dist) * WORKER_SPEED;
 
-                            // Directly move the entity position (bypasses all AI)
+                            // Directly move the entity position (bypasses all AI). Vanilla allocates a new
+                            // position and bounding box for this, virtual movement avoids it between points
                             double newX = worker.getX() + stepX;
                             double newZ = worker.getZ() + stepZ;
                             worker.setPos(newX, worker.getY(), newZ);
@@ -612,8 +1031,228 @@ public abstract class HPBlockEntityHorseBase extends HPBlockEntityBase {
             }
         }
 
+        if (!orbiting && orbitStart >= 0L) {
+            // Clients go back to showing the worker where the server has it
+            orbitStart = -1L;
+            flag = true;
+        }
+
         if (flag) {
             setChanged();
         }
+
+        if (canSleep()) {
+            sleeping = true;
+            // Wakes up in time for the safety net area check
+            sleepUntil = Math.min(level.getGameTime() + SLEEP_RECHECK_INTERVAL, nextAreaCheckTick);
+        }
+        ticking = false;
+    }
+
+    private boolean useVirtualMovement() {
+        if (virtualMovementOverride != null) return virtualMovementOverride;
+        return scheduler != null ? scheduler.virtualWorkerMovement() : HorsePowerConfig.virtualWorkerMovement.get();
+    }
+
+    /**
+     * Forces virtual or stepped worker movement on this machine only, or follows the config again
+     * with null. Lets the game tests pick a mode without touching the config. Not saved.
+     */
+    public void setVirtualMovementOverride(@Nullable Boolean virtualMovement) {
+        this.virtualMovementOverride = virtualMovement;
+    }
+
+    /**
+     * Virtual worker movement: instead of stepping the worker every tick, its place on the path is
+     * worked out from the game time since the orbit started. The server only moves it when it reaches
+     * a path point, and clients move it in between from the synced orbit, so a working horse sends a
+     * movement packet every TICKS_PER_POINT ticks instead of every tick.
+     *
+     * @return true if the orbit started or an item was processed
+     */
+    private boolean tickOrbit() {
+        long gameTime = level.getGameTime();
+        // Keep the AI from walking the worker off between path points
+        worker.getNavigation().stop();
+        if (worker instanceof AbstractHorse horse && horse.isEating()) {
+            horse.setEating(false);
+        }
+
+        // The orbit follows the game time, so after ticks the machine didn't run (chunk not ticking,
+        // just loaded) the horse would jump ahead. Start over from where it is instead.
+        boolean resumed = gameTime - lastOrbitTick != 1L;
+        lastOrbitTick = gameTime;
+        if (orbitStart < 0L || resumed) {
+            startOrbit(gameTime);
+            return true;
+        }
+
+        long elapsed = gameTime - orbitStart;
+        long due = elapsed / TICKS_PER_POINT;
+        if (due == orbitPointsCredited) return false;
+
+        // Every point passed since the last credited one, at most a lap
+        int points = (int) Math.min(due - orbitPointsCredited, PATH.length);
+        orbitPointsCredited = due;
+        moveVirtualWorker(gameTime);
+        int point = getOrbitPoint(elapsed);
+        origin = point;
+        target = point + 1 == PATH.length ? 0 : point + 1;
+        boolean processed = false;
+        for (int i = 0; i < points; i++) {
+            pathPointsReached++;
+            if (targetReached()) {
+                processed = true;
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * Starts the orbit where the worker is: on the path segment it is walking, as far along it as
+     * it already got, so it isn't snapped back onto a path point.
+     */
+    private void startOrbit(long gameTime) {
+        int closest = getClosestTarget();
+        int previous = closest == 0 ? PATH.length - 1 : closest - 1;
+        int from = previous;
+        double progress = getSegmentProgress(previous, closest);
+        if (progress >= 1.0D) {
+            // Already past the closest point, so on the segment after it
+            from = closest;
+            progress = getSegmentProgress(closest, closest + 1 == PATH.length ? 0 : closest + 1);
+        }
+        orbitPoint = from;
+        orbitStart = gameTime - Math.min((long) (Math.max(progress, 0.0D) * TICKS_PER_POINT), TICKS_PER_POINT - 1);
+        orbitPointsCredited = 0L;
+        moveVirtualWorker(gameTime);
+    }
+
+    /**
+     * How far the worker got along the segment between two path points, as the projection of its
+     * position onto the segment: 0 at the first point, 1 at the second.
+     */
+    private double getSegmentProgress(int from, int to) {
+        double dx = pathX[to] - pathX[from];
+        double dz = pathZ[to] - pathZ[from];
+        double lengthSq = dx * dx + dz * dz;
+        if (lengthSq == 0.0D) return 0.0D;
+        return ((worker.getX() - pathX[from]) * dx + (worker.getZ() - pathZ[from]) * dz) / lengthSq;
+    }
+
+    private int getOrbitPoint(long elapsed) {
+        return (int) ((orbitPoint + elapsed / TICKS_PER_POINT) % PATH.length);
+    }
+
+    /**
+     * Puts the worker where the orbit has it at the given game time, facing along the path.
+     */
+    private void moveVirtualWorker(long gameTime) {
+        long elapsed = Math.max(gameTime - orbitStart, 0L);
+        int from = getOrbitPoint(elapsed);
+        int to = from + 1 == PATH.length ? 0 : from + 1;
+        double progress = (double) (elapsed % TICKS_PER_POINT) / TICKS_PER_POINT;
+
+        double fromX = pathX[from];
+        double fromZ = pathZ[from];
+        double dx = pathX[to] - fromX;
+        double dz = pathZ[to] - fromZ;
+        worker.setPos(fromX + dx * progress, worker.getY(), fromZ + dz * progress);
+
+        float yaw = (float) (Math.atan2(-dx, dz) * (180.0 / Math.PI));
+        worker.setYRot(yaw);
+        worker.yBodyRot = yaw;
+        worker.yHeadRot = yaw;
+    }
+
+    /**
+     * Applies the path points the worker would have reached while the chunk was unloaded, in one
+     * batch on the first tick after loading that has the worker back. Stops as soon as the machine
+     * runs out of input or output space, like the worker would have.
+     */
+    private void catchUp() {
+        long elapsed = catchUpTicks;
+        catchUpTicks = 0L;
+        if (!valid || elapsed < TICKS_PER_POINT) return;
+
+        int points = (int) (elapsed / TICKS_PER_POINT);
+        int reached = 0;
+        while (reached < points && canWork()) {
+            targetReached();
+            reached++;
+        }
+        if (reached > 0) {
+            if (shouldLogDebug()) {
+                LOGGER.info("[HorsePowered] catchUp at {}: Applied {} of {} path points for {} unloaded ticks", worldPosition, reached, points, elapsed);
+            }
+            setChanged();
+        }
+    }
+
+    /**
+     * Full working area check. Queued on the scheduler by tickServer() and run within its budget.
+     */
+    void runAreaCheck() {
+        boolean wasValid = valid;
+        areaDirty = false;
+        valid = validateArea();
+        nextAreaCheckTick = level.getGameTime() + AREA_REVALIDATE_INTERVAL;
+        // Sync to client when valid state changes (for Jade tooltip)
+        if (wasValid != valid) {
+            setChanged();
+        }
+    }
+
+    /**
+     * Looks for the stored worker. Queued on the scheduler by tickServer() and run within its budget,
+     * so the worker may have been found or released in the meantime.
+     */
+    void runWorkerSearch() {
+        if (!hasStoredWorkerUuid || worker != null) return;
+
+        if (shouldLogDebug()) {
+            LOGGER.info("[HorsePowered] tickServer at {}: Attempting to find worker UUID={}, gracePeriod={}", worldPosition, getStoredWorkerUuid(), workerGracePeriod);
+        }
+        boolean profiling = MachineProfiler.begin();
+        boolean found = findWorker();
+        if (profiling) MachineProfiler.end(MachineProfiler.Section.FIND_WORKER, this);
+        if (!found) {
+            workerSearchFailures++;
+            if (shouldLogDebug()) {
+                LOGGER.info("[HorsePowered] tickServer at {}: Worker NOT FOUND, {} misses in a row", worldPosition, workerSearchFailures);
+            }
+        }
+    }
+
+    /**
+     * Ticks until the next worker search: doubled for every search that missed in a row, with up to
+     * a quarter of random jitter so machines loaded together don't keep searching on the same tick.
+     */
+    private int getLocateDelay() {
+        int delay = Math.min(LOCATE_TIMER << Math.min(workerSearchFailures, 5), LOCATE_TIMER_MAX);
+        return level != null ? delay + level.getRandom().nextInt(delay / 4 + 1) : delay;
+    }
+
+    /**
+     * Whether nothing can happen until the inventory, the worker or the working area changes.
+     * A worker that is still being searched for keeps the machine awake.
+     */
+    private boolean canSleep() {
+        if (level == null || areaDirty || workerGracePeriod > 0) return false;
+        if (scheduler != null && scheduler.isQueued(this)) return false;
+        if (hasStoredWorkerUuid && worker == null) return false;
+        if (offeredWorker != null) return false;
+        return !valid || !running || worker == null;
+    }
+
+    /**
+     * Makes a dormant machine tick again from the next server tick on.
+     */
+    public void wake() {
+        sleeping = false;
+    }
+
+    public boolean isSleeping() {
+        return sleeping;
     }
 }
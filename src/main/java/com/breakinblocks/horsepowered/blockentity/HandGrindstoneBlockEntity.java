@@ -1,15 +1,18 @@
 package com.breakinblocks.horsepowered.blockentity;
 
+import com.breakinblocks.horsepowered.blocks.BlockHandGrindstone;
 import com.breakinblocks.horsepowered.config.HorsePowerConfig;
+import com.breakinblocks.horsepowered.profiling.MachineProfiler;
+import com.breakinblocks.horsepowered.profiling.jfr.ItemProcessedEvent;
 import com.breakinblocks.horsepowered.recipes.GrindstoneRecipe;
-import com.breakinblocks.horsepowered.recipes.HPRecipeInput;
+import com.breakinblocks.horsepowered.recipes.HPRecipeIndex;
 import com.breakinblocks.horsepowered.recipes.HPRecipes;
+import com.breakinblocks.horsepowered.recipes.RecipeCache;
 import net.minecraft.core.BlockPos;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 import net.minecraft.world.level.block.state.BlockState;
@@ -20,6 +23,7 @@ public class HandGrindstoneBlockEntity extends HPBlockEntityBase {
 
     private int currentItemMillTime;
     private int totalItemMillTime;
+    private final RecipeCache<GrindstoneRecipe> recipeCache = new RecipeCache<>(HPRecipes.GRINDING_TYPE);
 
     private static final int TICKS_PER_ROTATION = 18;
     private float visibleRotation = 0;
@@ -74,10 +78,7 @@ public class HandGrindstoneBlockEntity extends HPBlockEntityBase {
     }
 
     public Optional<RecipeHolder<GrindstoneRecipe>> getRecipe() {
-        if (!(level instanceof ServerLevel serverLevel)) return Optional.empty();
-        HPRecipeInput recipeInput = new HPRecipeInput(getItem(0));
-        return ((RecipeManager) serverLevel.recipeAccess())
-                .getRecipeFor(HPRecipes.GRINDING_TYPE.get(), recipeInput, serverLevel);
+        return recipeCache.get(this, getItem(0));
     }
 
     private void millItem() {
@@ -103,6 +104,7 @@ public class HandGrindstoneBlockEntity extends HPBlockEntityBase {
             // Process secondary output
             processSecondaries(level, secondary, secondaryOutput, recipe.getSecondaryChance());
 
+            ItemProcessedEvent.emit(this, input, result);
             input.shrink(1);
             setChanged();
         }
@@ -135,6 +137,7 @@ public class HandGrindstoneBlockEntity extends HPBlockEntityBase {
 
         boolean isSameItem = !stack.isEmpty() && ItemStack.isSameItemSameComponents(stack, oldStack);
         if (slot == 0 && !isSameItem) {
+            recipeCache.invalidate();
             totalItemMillTime = getRecipeTime();
             currentItemMillTime = 0;
         }
@@ -148,12 +151,7 @@ public class HandGrindstoneBlockEntity extends HPBlockEntityBase {
     @Override
     public boolean isItemValidForSlot(int index, ItemStack stack) {
         if (index != 0) return false;
-        if (!(level instanceof ServerLevel serverLevel)) return false;
-
-        HPRecipeInput recipeInput = new HPRecipeInput(stack);
-        return ((RecipeManager) serverLevel.recipeAccess())
-                .getRecipeFor(HPRecipes.GRINDING_TYPE.get(), recipeInput, serverLevel)
-                .isPresent();
+        return HPRecipeIndex.hasRecipe(level, HPRecipes.GRINDING_TYPE.get(), stack);
     }
 
     @Override
@@ -161,6 +159,19 @@ public class HandGrindstoneBlockEntity extends HPBlockEntityBase {
         return 2;
     }
 
+    @Override
+    protected int[] getSyncProgress() {
+        return new int[]{currentItemMillTime, totalItemMillTime, rotation};
+    }
+
+    @Override
+    protected void applySyncProgress(int[] progress) {
+        if (progress.length < 3) return;
+        currentItemMillTime = progress[0];
+        totalItemMillTime = progress[1];
+        rotation = progress[2];
+    }
+
     public int getCurrentMillTime() {
         return currentItemMillTime;
     }
@@ -176,16 +187,45 @@ public class HandGrindstoneBlockEntity extends HPBlockEntityBase {
     public boolean turn() {
         if (level == null || level.isClientSide()) return false;
 
+        // Also restarts a grindstone that was saved mid-turn without the turning state
+        if (rotation > 0) {
+            setTurning(true);
+        }
         if (rotation < 3 && canWork()) {
             rotation += TICKS_PER_ROTATION;
+            setTurning(true);
             setChanged();
             return true;
         }
         return false;
     }
 
+    /**
+     * The block only has a ticker while it's turning, so idle grindstones don't tick at all.
+     * Switching the state re-evaluates the ticker on the server and, through the block update,
+     * on the client.
+     */
+    private void setTurning(boolean turning) {
+        if (level == null) return;
+        BlockState state = getBlockState();
+        if (state.hasProperty(BlockHandGrindstone.TURNING) && state.getValue(BlockHandGrindstone.TURNING) != turning) {
+            level.setBlock(worldPosition, state.setValue(BlockHandGrindstone.TURNING, turning), Block.UPDATE_CLIENTS);
+        }
+    }
+
+    @Override
+    public void setBlockState(BlockState state) {
+        super.setBlockState(state);
+        // The client stops ticking with the state, so reset the stone here rather than in tickClient
+        if (level != null && level.isClientSide() && state.hasProperty(BlockHandGrindstone.TURNING) && !state.getValue(BlockHandGrindstone.TURNING)) {
+            visibleRotation = 0;
+        }
+    }
+
     public static void serverTick(Level level, BlockPos pos, BlockState state, HandGrindstoneBlockEntity blockEntity) {
+        boolean profiling = MachineProfiler.begin();
         blockEntity.tickServer();
+        if (profiling) MachineProfiler.end(MachineProfiler.Section.HAND_GRINDSTONE_TICK, blockEntity);
     }
 
     public static void clientTick(Level level, BlockPos pos, BlockState state, HandGrindstoneBlockEntity blockEntity) {
@@ -209,6 +249,9 @@ public class HandGrindstoneBlockEntity extends HPBlockEntityBase {
             }
             rotation--;
         }
+        if (rotation <= 0) {
+            setTurning(false);
+        }
     }
 
     private void tickClient() {
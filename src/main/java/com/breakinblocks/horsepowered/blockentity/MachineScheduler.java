@@ -0,0 +1,212 @@
+package com.breakinblocks.horsepowered.blockentity;
+
+import com.breakinblocks.horsepowered.HorsePowerMod;
+import com.breakinblocks.horsepowered.config.HorsePowerConfig;
+import com.breakinblocks.horsepowered.profiling.MachineProfiler;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Ticks every horse-powered machine of a server level in one pass, grouped by machine type, instead
+ * of through a vanilla block entity ticker per machine.
+ * <p>
+ * Config values and the game time are read once per tick and shared by all machines. Expensive
+ * work that doesn't have to happen on a particular tick (full working area checks and worker
+ * searches) is queued by the machines and worked off within a fixed time budget per tick, so a
+ * burst of it is spread over several ticks instead of landing in one.
+ */
+@EventBusSubscriber(modid = HorsePowerMod.MOD_ID)
+public class MachineScheduler {
+
+    private static final Map<LevelAccessor, MachineScheduler> SCHEDULERS = new IdentityHashMap<>();
+
+    private final ServerLevel level;
+    private final Reference2ObjectLinkedOpenHashMap<BlockEntityType<?>, ObjectArrayList<HPBlockEntityHorseBase>> machines = new Reference2ObjectLinkedOpenHashMap<>();
+    private final ReferenceLinkedOpenHashSet<HPBlockEntityHorseBase> areaChecks = new ReferenceLinkedOpenHashSet<>();
+    private final ReferenceLinkedOpenHashSet<HPBlockEntityHorseBase> workerSearches = new ReferenceLinkedOpenHashSet<>();
+
+    // Shared by every machine ticked this tick
+    private long gameTime;
+    private boolean debugLogging;
+    private int pointsForWindup;
+    private int pointsForPress;
+    private boolean virtualWorkerMovement;
+
+    private MachineScheduler(ServerLevel level) {
+        this.level = level;
+        readSettings();
+    }
+
+    @Nullable
+    public static MachineScheduler get(LevelAccessor level) {
+        return SCHEDULERS.get(level);
+    }
+
+    /**
+     * Adds a machine to its level's scheduler. Called when the block entity is loaded.
+     */
+    public static void add(HPBlockEntityHorseBase machine) {
+        if (!(machine.getLevel() instanceof ServerLevel level)) return;
+
+        MachineScheduler scheduler = SCHEDULERS.computeIfAbsent(level, l -> new MachineScheduler(level));
+        if (!machine.inSchedulerBatch) {
+            scheduler.machines.computeIfAbsent(machine.getType(), t -> new ObjectArrayList<>()).add(machine);
+            machine.inSchedulerBatch = true;
+        }
+        machine.scheduler = scheduler;
+    }
+
+    /**
+     * Removes a machine's queued work. The machine itself is dropped from its batch on the next
+     * tick, which avoids a search through the batch on every chunk unload.
+     */
+    public static void remove(HPBlockEntityHorseBase machine) {
+        MachineScheduler scheduler = machine.scheduler;
+        if (scheduler == null) return;
+
+        scheduler.areaChecks.remove(machine);
+        scheduler.workerSearches.remove(machine);
+        machine.scheduler = null;
+    }
+
+    /**
+     * Queues a full working area check. Runs within this or a later tick's budget.
+     */
+    public void requestAreaCheck(HPBlockEntityHorseBase machine) {
+        areaChecks.add(machine);
+    }
+
+    /**
+     * Queues a search for the machine's stored worker. Runs within this or a later tick's budget.
+     */
+    public void requestWorkerSearch(HPBlockEntityHorseBase machine) {
+        workerSearches.add(machine);
+    }
+
+    public boolean isQueued(HPBlockEntityHorseBase machine) {
+        return areaChecks.contains(machine) || workerSearches.contains(machine);
+    }
+
+    public long gameTime() {
+        return gameTime;
+    }
+
+    public boolean debugLogging() {
+        return debugLogging;
+    }
+
+    public int pointsForWindup() {
+        return pointsForWindup;
+    }
+
+    public int pointsForPress() {
+        return pointsForPress;
+    }
+
+    public boolean virtualWorkerMovement() {
+        return virtualWorkerMovement;
+    }
+
+    private void readSettings() {
+        gameTime = level.getGameTime();
+        debugLogging = HorsePowerConfig.debugLogging.get();
+        pointsForWindup = HorsePowerConfig.pointsForWindup.get();
+        pointsForPress = HorsePowerConfig.pointsForPress.get();
+        virtualWorkerMovement = HorsePowerConfig.virtualWorkerMovement.get();
+    }
+
+    private void tick() {
+        boolean profiling = MachineProfiler.begin();
+        readSettings();
+
+        for (ObjectArrayList<HPBlockEntityHorseBase> ofType : machines.values()) {
+            tickBatch(ofType);
+        }
+        runQueuedWork();
+        if (profiling) MachineProfiler.end(MachineProfiler.Section.SCHEDULER, null);
+    }
+
+    /**
+     * Ticks one type's machines, compacting out the ones that were removed since the last tick.
+     * Like vanilla block entities, machines in chunks that aren't ticking are skipped.
+     */
+    private void tickBatch(ObjectArrayList<HPBlockEntityHorseBase> ofType) {
+        int size = ofType.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            HPBlockEntityHorseBase machine = ofType.get(i);
+            if (machine.isRemoved() || machine.scheduler != this) {
+                machine.inSchedulerBatch = false;
+                continue;
+            }
+            ofType.set(kept++, machine);
+
+            if (level.shouldTickBlocksAt(machine.getBlockPos())) {
+                HPBlockEntityHorseBase.serverTick(level, machine.getBlockPos(), machine.getBlockState(), machine);
+            }
+        }
+        if (kept != size) {
+            ofType.size(kept);
+        }
+    }
+
+    /**
+     * Works off queued area checks and worker searches until the tick's budget is used up. At least
+     * one of each runs every tick so neither queue can starve. Worker searches are also capped by
+     * count, since after a restart every machine with a worker queues one.
+     */
+    private void runQueuedWork() {
+        if (areaChecks.isEmpty() && workerSearches.isEmpty()) return;
+
+        long deadline = System.nanoTime() + HorsePowerConfig.machineWorkBudget.get() * 1000L;
+        int searchesLeft = HorsePowerConfig.maxWorkerSearchesPerTick.get();
+        boolean first = true;
+        while (!areaChecks.isEmpty() || (searchesLeft > 0 && !workerSearches.isEmpty())) {
+            if (!first && System.nanoTime() >= deadline) break;
+            first = false;
+
+            if (!areaChecks.isEmpty()) {
+                HPBlockEntityHorseBase machine = areaChecks.removeFirst();
+                if (!machine.isRemoved()) {
+                    machine.runAreaCheck();
+                }
+            }
+            if (searchesLeft > 0 && !workerSearches.isEmpty()) {
+                searchesLeft--;
+                HPBlockEntityHorseBase machine = workerSearches.removeFirst();
+                if (!machine.isRemoved()) {
+                    machine.runWorkerSearch();
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) return;
+        // Frozen with /tick freeze, vanilla block entities don't tick either
+        if (!level.tickRateManager().runsNormally()) return;
+
+        MachineScheduler scheduler = SCHEDULERS.get(level);
+        if (scheduler != null) {
+            scheduler.tick();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        SCHEDULERS.remove(event.getLevel());
+    }
+}
@@ -1,18 +1,18 @@
 package com.breakinblocks.horsepowered.blockentity;
 
 import com.breakinblocks.horsepowered.config.HorsePowerConfig;
+import com.breakinblocks.horsepowered.profiling.jfr.ItemProcessedEvent;
 import com.breakinblocks.horsepowered.recipes.ChoppingRecipe;
-import com.breakinblocks.horsepowered.recipes.HPRecipeInput;
+import com.breakinblocks.horsepowered.recipes.HPRecipeIndex;
 import com.breakinblocks.horsepowered.recipes.HPRecipes;
+import com.breakinblocks.horsepowered.recipes.RecipeCache;
 import net.minecraft.core.BlockPos;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.Containers;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 import net.minecraft.world.level.block.state.BlockState;
@@ -23,6 +23,7 @@ public class ManualChopperBlockEntity extends HPBlockEntityBase {
 
     private int currentItemChopAmount;
     private int totalItemChopAmount;
+    private final RecipeCache<ChoppingRecipe> recipeCache = new RecipeCache<>(HPRecipes.CHOPPING_TYPE);
 
     public ManualChopperBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.CHOPPING_BLOCK.get(), pos, state, 2);
@@ -58,12 +59,7 @@ public class ManualChopperBlockEntity extends HPBlockEntityBase {
             if (!ItemStack.isSameItemSameComponents(inputSlot, stack)) return false;
             if (inputSlot.getCount() >= getInventoryStackLimit()) return false;
         }
-        if (!(level instanceof ServerLevel serverLevel)) return false;
-
-        HPRecipeInput recipeInput = new HPRecipeInput(stack);
-        return ((RecipeManager) serverLevel.recipeAccess())
-                .getRecipeFor(HPRecipes.CHOPPING_TYPE.get(), recipeInput, serverLevel)
-                .isPresent();
+        return HPRecipeIndex.hasRecipe(level, HPRecipes.CHOPPING_TYPE.get(), stack);
     }
 
     /**
@@ -92,6 +88,7 @@ public class ManualChopperBlockEntity extends HPBlockEntityBase {
 
         boolean isSameItem = !stack.isEmpty() && ItemStack.isSameItemSameComponents(stack, oldStack);
         if (slot == 0 && !isSameItem) {
+            recipeCache.invalidate();
             totalItemChopAmount = getRecipeTime() * HorsePowerConfig.choppingMultiplier.get();
             currentItemChopAmount = 0;
         }
@@ -114,6 +111,7 @@ public class ManualChopperBlockEntity extends HPBlockEntityBase {
                     output.grow(result.getCount());
                 }
             }
+            ItemProcessedEvent.emit(this, input, result);
         }
 
         level.playSound(player, worldPosition, SoundEvents.WOOD_BREAK, SoundSource.BLOCKS, 1.0f, 1.0f);
@@ -132,10 +130,7 @@ public class ManualChopperBlockEntity extends HPBlockEntityBase {
     }
 
     public Optional<RecipeHolder<ChoppingRecipe>> getRecipe() {
-        if (!(level instanceof ServerLevel serverLevel)) return Optional.empty();
-        HPRecipeInput recipeInput = new HPRecipeInput(getItem(0));
-        return ((RecipeManager) serverLevel.recipeAccess())
-                .getRecipeFor(HPRecipes.CHOPPING_TYPE.get(), recipeInput, serverLevel);
+        return recipeCache.get(this, getItem(0));
     }
 
     @Override
@@ -148,6 +143,18 @@ public class ManualChopperBlockEntity extends HPBlockEntityBase {
         return 1;
     }
 
+    @Override
+    protected int[] getSyncProgress() {
+        return new int[]{currentItemChopAmount, totalItemChopAmount};
+    }
+
+    @Override
+    protected void applySyncProgress(int[] progress) {
+        if (progress.length < 2) return;
+        currentItemChopAmount = progress[0];
+        totalItemChopAmount = progress[1];
+    }
+
     public int getCurrentChopAmount() {
         return currentItemChopAmount;
     }
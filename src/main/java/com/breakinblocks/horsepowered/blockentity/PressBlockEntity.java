@@ -1,17 +1,17 @@
 package com.breakinblocks.horsepowered.blockentity;
 
 import com.breakinblocks.horsepowered.config.HorsePowerConfig;
-import com.breakinblocks.horsepowered.recipes.HPRecipeInput;
+import com.breakinblocks.horsepowered.network.MachineSyncPayload;
+import com.breakinblocks.horsepowered.profiling.jfr.ItemProcessedEvent;
+import com.breakinblocks.horsepowered.recipes.HPRecipeIndex;
 import com.breakinblocks.horsepowered.recipes.HPRecipes;
 import com.breakinblocks.horsepowered.recipes.PressRecipe;
-import com.google.common.collect.Lists;
+import com.breakinblocks.horsepowered.recipes.RecipeCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 import net.minecraft.world.level.block.state.BlockState;
@@ -27,6 +27,9 @@ public class PressBlockEntity extends HPBlockEntityHorseBase {
 
     private final FluidTank tank;
     private int currentPressStatus;
+    // Tank contents last sent to tracking clients
+    private FluidStack syncedFluid = FluidStack.EMPTY;
+    private final RecipeCache<PressRecipe> recipeCache = new RecipeCache<>(HPRecipes.PRESSING_TYPE);
 
     public PressBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.PRESS.get(), pos, state, 2);
@@ -79,39 +82,11 @@ public class PressBlockEntity extends HPBlockEntityHorseBase {
         super.setChanged();
     }
 
-    @Override
-    public boolean validateArea() {
-        if (level == null) return false;
-
-        if (searchPos == null) {
-            searchPos = Lists.newArrayList();
-
-            for (int x = -3; x <= 3; x++) {
-                for (int z = -3; z <= 3; z++) {
-                    // Skip center area
-                    if ((x <= 1 && x >= -1) && (z <= 1 && z >= -1)) {
-                        continue;
-                    }
-                    searchPos.add(worldPosition.offset(x, 0, z));
-                    searchPos.add(worldPosition.offset(x, 1, z));
-                }
-            }
-        }
-
-        for (BlockPos pos : searchPos) {
-            BlockState state = level.getBlockState(pos);
-            if (!state.canBeReplaced()) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     @Override
     public boolean targetReached() {
         currentPressStatus++;
 
-        int totalPress = HorsePowerConfig.pointsForPress.get();
+        int totalPress = scheduler != null ? scheduler.pointsForPress() : HorsePowerConfig.pointsForPress.get();
         if (currentPressStatus >= (totalPress <= 0 ? 1 : totalPress)) {
             currentPressStatus = 0;
             pressItem();
@@ -131,11 +106,12 @@ public class PressBlockEntity extends HPBlockEntityHorseBase {
         return getRecipe().map(r -> r.value().getInputCount()).orElse(1);
     }
 
+    /**
+     * Gets the press recipe for the current input. The input count is not part of the match;
+     * canWork() checks it against the recipe so the cached entry survives partial stacks.
+     */
     public Optional<RecipeHolder<PressRecipe>> getRecipe() {
-        if (!(level instanceof ServerLevel serverLevel)) return Optional.empty();
-        HPRecipeInput recipeInput = new HPRecipeInput(getItem(0));
-        return ((RecipeManager) serverLevel.recipeAccess())
-                .getRecipeFor(HPRecipes.PRESSING_TYPE.get(), recipeInput, serverLevel);
+        return recipeCache.get(this, getItem(0));
     }
 
     @Override
@@ -165,6 +141,7 @@ public class PressBlockEntity extends HPBlockEntityHorseBase {
                 }
             }
 
+            ItemProcessedEvent.emit(this, input, result);
             input.shrink(recipe.getInputCount());
             setChanged();
         }
@@ -177,6 +154,7 @@ public class PressBlockEntity extends HPBlockEntityHorseBase {
 
         boolean isSameItem = !stack.isEmpty() && ItemStack.isSameItemSameComponents(stack, oldStack);
         if (slot == 0 && !isSameItem) {
+            recipeCache.invalidate();
             currentPressStatus = 0;
         }
     }
@@ -206,7 +184,7 @@ public class PressBlockEntity extends HPBlockEntityHorseBase {
         if (recipe.hasFluidOutput()) {
             // For fluid output, output slot must be empty and tank must have room
             return output.isEmpty() &&
-                    (tank.getFluidAmount() == 0 || tank.fill(fluidOutput.copy(), IFluidHandler.FluidAction.SIMULATE) >= fluidOutput.getAmount());
+                    (tank.getFluidAmount() == 0 || tank.fill(fluidOutput, IFluidHandler.FluidAction.SIMULATE) >= fluidOutput.getAmount());
         } else {
             // For item output, tank must be empty and output slot must have room
             return tank.getFluidAmount() == 0 &&
@@ -217,13 +195,9 @@ public class PressBlockEntity extends HPBlockEntityHorseBase {
 
     @Override
     public int getInventoryStackLimit(ItemStack stack) {
-        if (!(level instanceof ServerLevel serverLevel)) return getInventoryStackLimit();
-
-        HPRecipeInput recipeInput = new HPRecipeInput(stack);
-        Optional<RecipeHolder<PressRecipe>> recipeOpt = ((RecipeManager) serverLevel.recipeAccess())
-                .getRecipeFor(HPRecipes.PRESSING_TYPE.get(), recipeInput, serverLevel);
-
-        return recipeOpt.map(r -> r.value().getInputCount()).orElse(getInventoryStackLimit());
+        return HPRecipeIndex.findRecipe(level, HPRecipes.PRESSING_TYPE.get(), stack)
+                .map(r -> r.value().getInputCount())
+                .orElse(getInventoryStackLimit());
     }
 
     @Override
@@ -241,14 +215,38 @@ public class PressBlockEntity extends HPBlockEntityHorseBase {
         if (index != 0) return false;
         // Only reject if pressing is in progress (don't reject just because output has items)
         if (currentPressStatus != 0) return false;
-        if (!(level instanceof ServerLevel serverLevel)) return false;
 
         // Check if ANY press recipe accepts this item type (ignore count requirement)
         // This allows hoppers to insert items one at a time
-        return ((RecipeManager) serverLevel.recipeAccess())
-                .recipeMap().byType(HPRecipes.PRESSING_TYPE.get())
-                .stream()
-                .anyMatch(recipe -> recipe.value().getIngredient().test(stack));
+        return HPRecipeIndex.hasRecipe(level, HPRecipes.PRESSING_TYPE.get(), stack);
+    }
+
+    @Override
+    protected int[] getSyncProgress() {
+        return new int[]{currentPressStatus};
+    }
+
+    @Override
+    protected void applySyncProgress(int[] progress) {
+        if (progress.length < 1) return;
+        currentPressStatus = progress[0];
+    }
+
+    @Override
+    protected void writeSyncDelta(MachineSyncPayload.Builder delta) {
+        super.writeSyncDelta(delta);
+        if (!FluidStack.matches(syncedFluid, tank.getFluid())) {
+            syncedFluid = tank.getFluid().copy();
+            delta.fluid(syncedFluid);
+        }
+    }
+
+    @Override
+    public void applySyncDelta(MachineSyncPayload delta) {
+        super.applySyncDelta(delta);
+        if (delta.has(MachineSyncPayload.FLUID)) {
+            tank.setFluid(delta.fluid());
+        }
     }
 
     public FluidTank getTank() {
@@ -0,0 +1,104 @@
+package com.breakinblocks.horsepowered.blockentity;
+
+import com.breakinblocks.horsepowered.HorsePowerMod;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.PathfinderMob;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Hands loading workers straight to their machine, using the machine position that
+ * markWorkerPersistent() stores in the worker's persistent data, so machines don't have to poll
+ * for their worker after a restart or chunk load.
+ * <p>
+ * A worker whose machine isn't loaded yet is kept until the machine loads and claims it, or until
+ * the worker unloads again. The machines' own UUID lookup stays as a fallback for workers without
+ * the marker.
+ */
+@EventBusSubscriber(modid = HorsePowerMod.MOD_ID)
+public class WorkerReconnector {
+
+    private static final Map<LevelAccessor, Long2ObjectOpenHashMap<PathfinderMob>> PENDING = new IdentityHashMap<>();
+
+    /**
+     * Takes the worker waiting for this machine, if any. Called when the block entity is loaded.
+     */
+    public static void claim(HPBlockEntityHorseBase machine) {
+        Long2ObjectOpenHashMap<PathfinderMob> pending = PENDING.get(machine.getLevel());
+        if (pending == null) return;
+
+        PathfinderMob worker = pending.remove(machine.getBlockPos().asLong());
+        if (pending.isEmpty()) {
+            PENDING.remove(machine.getLevel());
+        }
+        if (worker != null && !worker.isRemoved()) {
+            machine.offerWorker(worker);
+        }
+    }
+
+    /**
+     * The position of the machine the mob works for, or null if it isn't marked as a worker.
+     */
+    @Nullable
+    private static BlockPos getMachinePos(PathfinderMob mob) {
+        CompoundTag data = mob.getPersistentData();
+        if (!data.getBooleanOr(HPBlockEntityHorseBase.WORKER_TAG, false)) return null;
+        return new BlockPos(
+                (int) data.getLongOr(HPBlockEntityHorseBase.WORKER_TAG + "_machine_x", 0L),
+                (int) data.getLongOr(HPBlockEntityHorseBase.WORKER_TAG + "_machine_y", 0L),
+                (int) data.getLongOr(HPBlockEntityHorseBase.WORKER_TAG + "_machine_z", 0L));
+    }
+
+    // Lowest priority so entities another mod cancels never get handed out
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (!(event.getLevel() instanceof ServerLevel level) || !(event.getEntity() instanceof PathfinderMob mob)) return;
+
+        BlockPos machinePos = getMachinePos(mob);
+        if (machinePos == null) return;
+
+        // Only look into chunks that are already loaded, the event must not load any
+        LevelChunk chunk = level.getChunkSource().getChunkNow(machinePos.getX() >> 4, machinePos.getZ() >> 4);
+        BlockEntity blockEntity = chunk != null ? chunk.getBlockEntity(machinePos) : null;
+        if (blockEntity instanceof HPBlockEntityHorseBase machine && !machine.isRemoved()) {
+            machine.offerWorker(mob);
+        } else {
+            PENDING.computeIfAbsent(level, l -> new Long2ObjectOpenHashMap<>()).put(machinePos.asLong(), mob);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (!(event.getLevel() instanceof ServerLevel level) || !(event.getEntity() instanceof PathfinderMob mob)) return;
+
+        Long2ObjectOpenHashMap<PathfinderMob> pending = PENDING.get(level);
+        if (pending == null) return;
+
+        BlockPos machinePos = getMachinePos(mob);
+        if (machinePos != null && pending.get(machinePos.asLong()) == mob) {
+            pending.remove(machinePos.asLong());
+            if (pending.isEmpty()) {
+                PENDING.remove(level);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        PENDING.remove(event.getLevel());
+    }
+}
@@ -0,0 +1,106 @@
+package com.breakinblocks.horsepowered.blockentity;
+
+import com.breakinblocks.horsepowered.HorsePowerMod;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of which horse-powered machines have their working area in which chunk, so a block
+ * change only notifies the machines whose ring actually covers it instead of every machine
+ * polling its whole area on a timer.
+ */
+@EventBusSubscriber(modid = HorsePowerMod.MOD_ID)
+public class WorkingAreaTracker {
+
+    private static final Map<LevelAccessor, Long2ObjectOpenHashMap<List<HPBlockEntityHorseBase>>> MACHINES = new IdentityHashMap<>();
+
+    /**
+     * Registers a machine's working area footprint. Called when the block entity is loaded.
+     */
+    public static void add(HPBlockEntityHorseBase machine) {
+        Level level = machine.getLevel();
+        if (!(level instanceof ServerLevel)) return;
+
+        Long2ObjectOpenHashMap<List<HPBlockEntityHorseBase>> byChunk = MACHINES.computeIfAbsent(level, l -> new Long2ObjectOpenHashMap<>());
+        forEachChunk(machine.getBlockPos(), chunk -> {
+            List<HPBlockEntityHorseBase> machines = byChunk.computeIfAbsent(chunk, c -> new ArrayList<>());
+            if (!machines.contains(machine)) {
+                machines.add(machine);
+            }
+        });
+    }
+
+    /**
+     * Removes a machine's footprint. Called when the block entity is removed or unloaded.
+     */
+    public static void remove(HPBlockEntityHorseBase machine) {
+        Level level = machine.getLevel();
+        if (level == null) return;
+
+        Long2ObjectOpenHashMap<List<HPBlockEntityHorseBase>> byChunk = MACHINES.get(level);
+        if (byChunk == null) return;
+
+        forEachChunk(machine.getBlockPos(), chunk -> {
+            List<HPBlockEntityHorseBase> machines = byChunk.get(chunk);
+            if (machines != null) {
+                machines.remove(machine);
+                if (machines.isEmpty()) {
+                    byChunk.remove(chunk);
+                }
+            }
+        });
+    }
+
+    private static void forEachChunk(BlockPos center, ChunkConsumer consumer) {
+        int minX = (center.getX() - HPBlockEntityHorseBase.AREA_RADIUS) >> 4;
+        int maxX = (center.getX() + HPBlockEntityHorseBase.AREA_RADIUS) >> 4;
+        int minZ = (center.getZ() - HPBlockEntityHorseBase.AREA_RADIUS) >> 4;
+        int maxZ = (center.getZ() + HPBlockEntityHorseBase.AREA_RADIUS) >> 4;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                consumer.accept(ChunkPos.asLong(x, z));
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) return;
+
+        Long2ObjectOpenHashMap<List<HPBlockEntityHorseBase>> byChunk = MACHINES.get(level);
+        if (byChunk == null) return;
+
+        BlockPos pos = event.getPos();
+        List<HPBlockEntityHorseBase> machines = byChunk.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (machines == null) return;
+
+        BlockState state = event.getState();
+        for (int i = 0; i < machines.size(); i++) {
+            machines.get(i).onWorkingAreaChanged(pos, state);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        MACHINES.remove(event.getLevel());
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        void accept(long chunk);
+    }
+}
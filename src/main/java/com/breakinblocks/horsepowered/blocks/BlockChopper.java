@@ -86,8 +86,8 @@ public class BlockChopper extends BlockHPBase {
     protected <T extends BlockEntity> BlockEntityTicker<T> createTicker(Level level, BlockState state) {
         if (level.isClientSide()) {
             return (lvl, pos, st, be) -> HPBlockEntityHorseBase.clientTick(lvl, pos, st, (ChopperBlockEntity) be);
-        } else {
-            return (lvl, pos, st, be) -> HPBlockEntityHorseBase.serverTick(lvl, pos, st, (ChopperBlockEntity) be);
         }
+        // Ticked together with the other machines of the level by MachineScheduler
+        return null;
     }
 }
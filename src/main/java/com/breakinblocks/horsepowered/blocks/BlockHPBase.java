@@ -120,6 +120,7 @@ public abstract class BlockHPBase extends Block implements EntityBlock {
                 if (transferAmount > 0) {
                     stack.shrink(transferAmount);
                     inputSlot.grow(transferAmount);
+                    te.setChanged();
                     return InteractionResult.SUCCESS;
                 }
             }
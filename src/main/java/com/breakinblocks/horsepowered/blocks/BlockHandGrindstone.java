@@ -17,6 +17,7 @@ import net.minecraft.world.level.block.entity.BlockEntityTicker;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.block.state.properties.BooleanProperty;
 import net.minecraft.world.level.block.state.properties.EnumProperty;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.CollisionContext;
@@ -26,18 +27,20 @@ import org.jetbrains.annotations.Nullable;
 public class BlockHandGrindstone extends BlockHPBase {
 
     public static final EnumProperty<Direction> FACING = BlockStateProperties.HORIZONTAL_FACING;
+    // Set while a player's turn is still running; the block entity only ticks in this state
+    public static final BooleanProperty TURNING = BooleanProperty.create("turning");
 
     private static final VoxelShape SHAPE = Block.box(1, 0, 1, 15, 14, 15);
     private static final VoxelShape COLLISION_SHAPE = Block.box(1, 0, 1, 15, 10, 15);
 
     public BlockHandGrindstone(Properties properties) {
         super(properties);
-        registerDefaultState(stateDefinition.any().setValue(FACING, Direction.NORTH));
+        registerDefaultState(stateDefinition.any().setValue(FACING, Direction.NORTH).setValue(TURNING, false));
     }
 
     @Override
     protected void createBlockStateDefinition(StateDefinition.Builder<Block, BlockState> builder) {
-        builder.add(FACING);
+        builder.add(FACING, TURNING);
     }
 
     @Nullable
@@ -116,6 +119,9 @@ public class BlockHandGrindstone extends BlockHPBase {
     @Nullable
     @Override
     protected <T extends BlockEntity> BlockEntityTicker<T> createTicker(Level level, BlockState state) {
+        if (!state.getValue(TURNING)) {
+            return null;
+        }
         if (level.isClientSide()) {
             return (lvl, pos, st, be) -> HandGrindstoneBlockEntity.clientTick(lvl, pos, st, (HandGrindstoneBlockEntity) be);
         } else {
@@ -42,8 +42,8 @@ public class BlockPress extends BlockHPBase {
     protected <T extends BlockEntity> BlockEntityTicker<T> createTicker(Level level, BlockState state) {
         if (level.isClientSide()) {
             return (lvl, pos, st, be) -> HPBlockEntityHorseBase.clientTick(lvl, pos, st, (PressBlockEntity) be);
-        } else {
-            return (lvl, pos, st, be) -> HPBlockEntityHorseBase.serverTick(lvl, pos, st, (PressBlockEntity) be);
         }
+        // Ticked together with the other machines of the level by MachineScheduler
+        return null;
     }
 }
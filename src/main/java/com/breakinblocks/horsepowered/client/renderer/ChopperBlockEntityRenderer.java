@@ -3,7 +3,6 @@ package com.breakinblocks.horsepowered.client.renderer;
 import com.breakinblocks.horsepowered.blockentity.ChopperBlockEntity;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.math.Axis;
-import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.SubmitNodeCollector;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
 import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
@@ -14,13 +13,11 @@ import net.minecraft.client.renderer.state.CameraRenderState;
 import net.minecraft.client.renderer.texture.OverlayTexture;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.PathfinderMob;
-import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-import java.util.Map;
+import java.util.BitSet;
 
 /**
  * Renderer for the horse-powered chopper.
@@ -28,6 +25,8 @@ import java.util.Map;
  */
 public class ChopperBlockEntityRenderer implements BlockEntityRenderer<ChopperBlockEntity, ChopperBlockEntityRenderer.ChopperRenderState> {
 
+    private final ItemRenderCache itemCache = new ItemRenderCache(2);
+
     public ChopperBlockEntityRenderer(BlockEntityRendererProvider.Context context) {
         // Context available for accessing rendering utilities
     }
@@ -43,6 +42,8 @@ public class ChopperBlockEntityRenderer implements BlockEntityRenderer<ChopperBl
         BlockEntityRenderState.extractBase(blockEntity, state, crumblingOverlay);
         state.partialTick = partialTick;
         state.blockPos = blockEntity.getBlockPos();
+        state.cameraDistanceSq = cameraPos.distanceToSqr(Vec3.atCenterOf(state.blockPos));
+        state.lod = RenderLod.forDistanceSq(state.cameraDistanceSq);
 
         // Extract worker position for leash rendering
         PathfinderMob worker = blockEntity.getWorker();
@@ -62,8 +63,8 @@ public class ChopperBlockEntityRenderer implements BlockEntityRenderer<ChopperBl
         state.visualWindup = blockEntity.getVisualWindup();
 
         // Extract working area highlight data
-        state.showHighlight = blockEntity.shouldShowHighlight();
-        state.workingAreaPositions = blockEntity.getWorkingAreaPositions();
+        state.showHighlight = state.lod == RenderLod.FULL && blockEntity.shouldShowHighlight();
+        state.workingAreaClear = blockEntity.getWorkingAreaHighlight();
 
         // Extract item states for rendering
         ItemStack input = blockEntity.getItem(0);
@@ -72,19 +73,16 @@ public class ChopperBlockEntityRenderer implements BlockEntityRenderer<ChopperBl
         state.inputCount = input.getCount();
         state.outputCount = output.getCount();
 
-        var itemModelResolver = Minecraft.getInstance().getItemModelResolver();
-
-        if (!input.isEmpty()) {
-            itemModelResolver.updateForTopItem(state.inputItem, input, ItemDisplayContext.FIXED, blockEntity.getLevel(), null, 0);
-        } else {
-            state.inputItem.clear();
+        // Item models are only resolved up close, and only again once the inventory changed
+        if (state.lod != RenderLod.FULL) {
+            state.inputItem = ItemRenderCache.EMPTY;
+            state.outputItem = ItemRenderCache.EMPTY;
+            return;
         }
 
-        if (!output.isEmpty()) {
-            itemModelResolver.updateForTopItem(state.outputItem, output, ItemDisplayContext.FIXED, blockEntity.getLevel(), null, 0);
-        } else {
-            state.outputItem.clear();
-        }
+        ItemStackRenderState[] items = itemCache.get(blockEntity);
+        state.inputItem = items[0];
+        state.outputItem = items[1];
     }
 
     @Override
@@ -97,12 +95,11 @@ public class ChopperBlockEntityRenderer implements BlockEntityRenderer<ChopperBl
             // Worker position is the offset from block center, plus adjustment for block attachment point
             Vec3 workerPos = state.workerOffset.add(0.5, 0, 0.5);
 
-            LeadRenderer.renderLead(blockAttachment, workerPos, poseStack, collector);
+            LeadRenderer.renderLead(blockAttachment, workerPos, state.cameraDistanceSq, poseStack, collector);
         }
 
         // Render working area highlight
-        WorkingAreaRenderer.render(state.showHighlight, state.workingAreaPositions,
-                state.blockPos, poseStack, collector);
+        WorkingAreaRenderer.render(state.showHighlight, state.workingAreaClear, poseStack, collector);
 
         // Render chopping blade (moves up and down based on windup)
         BladeRenderer.renderBlade(poseStack, collector, state.visualWindup, state.lightCoords);
@@ -130,7 +127,7 @@ public class ChopperBlockEntityRenderer implements BlockEntityRenderer<ChopperBl
 
     @Override
     public int getViewDistance() {
-        return 64;
+        return RenderLod.getViewDistance();
     }
 
     public static class ChopperRenderState extends BlockEntityRenderState {
@@ -138,13 +135,15 @@ public class ChopperBlockEntityRenderer implements BlockEntityRenderer<ChopperBl
         public boolean hasWorker;
         public Vec3 workerOffset;  // Offset from block center to worker leash position
         public BlockPos blockPos;
+        public double cameraDistanceSq;
+        public RenderLod lod = RenderLod.FULL;
         public boolean showHighlight;
-        public List<Map.Entry<BlockPos, Boolean>> workingAreaPositions;
+        public BitSet workingAreaClear;
         public float visualWindup;  // Blade vertical position (-0.74 = down, 0 = up)
 
         // Item rendering states
-        public final ItemStackRenderState inputItem = new ItemStackRenderState();
-        public final ItemStackRenderState outputItem = new ItemStackRenderState();
+        public ItemStackRenderState inputItem = ItemRenderCache.EMPTY;
+        public ItemStackRenderState outputItem = ItemRenderCache.EMPTY;
         public int inputCount;
         public int outputCount;
     }
@@ -14,13 +14,11 @@ import net.minecraft.client.renderer.state.CameraRenderState;
 import net.minecraft.client.renderer.texture.OverlayTexture;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.PathfinderMob;
-import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-import java.util.Map;
+import java.util.BitSet;
 
 /**
  * Renderer for the horse-powered grindstone.
@@ -28,8 +26,10 @@ import java.util.Map;
  */
 public class GrindstoneBlockEntityRenderer implements BlockEntityRenderer<GrindstoneBlockEntity, GrindstoneBlockEntityRenderer.GrindstoneRenderState> {
 
+    private final ItemRenderCache itemCache = new ItemRenderCache(3);
+
     public GrindstoneBlockEntityRenderer(BlockEntityRendererProvider.Context context) {
-        // ItemModelResolver is obtained from Minecraft.getInstance() in extractRenderState
+        // ItemModelResolver is obtained from Minecraft.getInstance() in ItemRenderCache
     }
 
     @Override
@@ -43,6 +43,8 @@ public class GrindstoneBlockEntityRenderer implements BlockEntityRenderer<Grinds
         BlockEntityRenderState.extractBase(blockEntity, state, crumblingOverlay);
         state.partialTick = partialTick;
         state.blockPos = blockEntity.getBlockPos();
+        state.cameraDistanceSq = cameraPos.distanceToSqr(Vec3.atCenterOf(state.blockPos));
+        state.lod = RenderLod.forDistanceSq(state.cameraDistanceSq);
 
         // Extract worker position for leash rendering
         PathfinderMob worker = blockEntity.getWorker();
@@ -59,8 +61,8 @@ public class GrindstoneBlockEntityRenderer implements BlockEntityRenderer<Grinds
         }
 
         // Extract working area highlight data
-        state.showHighlight = blockEntity.shouldShowHighlight();
-        state.workingAreaPositions = blockEntity.getWorkingAreaPositions();
+        state.showHighlight = state.lod == RenderLod.FULL && blockEntity.shouldShowHighlight();
+        state.workingAreaClear = blockEntity.getWorkingAreaHighlight();
 
         // Extract item states for rendering
         ItemStack input = blockEntity.getItem(0);
@@ -71,25 +73,18 @@ public class GrindstoneBlockEntityRenderer implements BlockEntityRenderer<Grinds
         state.outputCount = output.getCount();
         state.secondaryCount = secondary.getCount();
 
-        var itemModelResolver = Minecraft.getInstance().getItemModelResolver();
-
-        if (!input.isEmpty()) {
-            itemModelResolver.updateForTopItem(state.inputItem, input, ItemDisplayContext.FIXED, blockEntity.getLevel(), null, 0);
-        } else {
-            state.inputItem.clear();
-        }
-
-        if (!output.isEmpty()) {
-            itemModelResolver.updateForTopItem(state.outputItem, output, ItemDisplayContext.FIXED, blockEntity.getLevel(), null, 0);
-        } else {
-            state.outputItem.clear();
+        // Item models are only resolved up close, and only again once the inventory changed
+        if (state.lod != RenderLod.FULL) {
+            state.inputItem = ItemRenderCache.EMPTY;
+            state.outputItem = ItemRenderCache.EMPTY;
+            state.secondaryItem = ItemRenderCache.EMPTY;
+            return;
         }
 
-        if (!secondary.isEmpty()) {
-            itemModelResolver.updateForTopItem(state.secondaryItem, secondary, ItemDisplayContext.FIXED, blockEntity.getLevel(), null, 0);
-        } else {
-            state.secondaryItem.clear();
-        }
+        ItemStackRenderState[] items = itemCache.get(blockEntity);
+        state.inputItem = items[0];
+        state.outputItem = items[1];
+        state.secondaryItem = items[2];
     }
 
     @Override
@@ -102,12 +97,11 @@ public class GrindstoneBlockEntityRenderer implements BlockEntityRenderer<Grinds
             // Worker position is the offset from block center, plus adjustment for block attachment point
             Vec3 workerPos = state.workerOffset.add(0.5, 0, 0.5);
 
-            LeadRenderer.renderLead(blockAttachment, workerPos, poseStack, collector);
+            LeadRenderer.renderLead(blockAttachment, workerPos, state.cameraDistanceSq, poseStack, collector);
         }
 
         // Render working area highlight
-        WorkingAreaRenderer.render(state.showHighlight, state.workingAreaPositions,
-                state.blockPos, poseStack, collector);
+        WorkingAreaRenderer.render(state.showHighlight, state.workingAreaClear, poseStack, collector);
 
         // Render input item on top of the grinder (grinder top at Y = 8/16 = 0.5)
         if (!state.inputItem.isEmpty()) {
@@ -142,7 +136,7 @@ public class GrindstoneBlockEntityRenderer implements BlockEntityRenderer<Grinds
 
     @Override
     public int getViewDistance() {
-        return 64;
+        return RenderLod.getViewDistance();
     }
 
     public static class GrindstoneRenderState extends BlockEntityRenderState {
@@ -150,13 +144,15 @@ public class GrindstoneBlockEntityRenderer implements BlockEntityRenderer<Grinds
         public boolean hasWorker;
         public Vec3 workerOffset;  // Offset from block center to worker leash position
         public BlockPos blockPos;
+        public double cameraDistanceSq;
+        public RenderLod lod = RenderLod.FULL;
         public boolean showHighlight;
-        public List<Map.Entry<BlockPos, Boolean>> workingAreaPositions;
+        public BitSet workingAreaClear;
 
         // Item rendering states
-        public final ItemStackRenderState inputItem = new ItemStackRenderState();
-        public final ItemStackRenderState outputItem = new ItemStackRenderState();
-        public final ItemStackRenderState secondaryItem = new ItemStackRenderState();
+        public ItemStackRenderState inputItem = ItemRenderCache.EMPTY;
+        public ItemStackRenderState outputItem = ItemRenderCache.EMPTY;
+        public ItemStackRenderState secondaryItem = ItemRenderCache.EMPTY;
         public int inputCount;
         public int outputCount;
         public int secondaryCount;
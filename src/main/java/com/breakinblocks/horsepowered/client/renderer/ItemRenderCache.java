@@ -0,0 +1,75 @@
+package com.breakinblocks.horsepowered.client.renderer;
+
+import com.breakinblocks.horsepowered.blockentity.HPBlockEntityBase;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.item.ItemModelResolver;
+import net.minecraft.client.renderer.item.ItemStackRenderState;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps the resolved item models of each machine's slots between frames.
+ * Models are only resolved again when the machine's inventory revision or its level changes,
+ * except animated ones, which are resolved every frame so they keep moving.
+ */
+public class ItemRenderCache {
+
+    // Shared state for slots that aren't drawn; never updated
+    public static final ItemStackRenderState EMPTY = new ItemStackRenderState();
+
+    private final int slots;
+    private final Map<HPBlockEntityBase, Entry> entries = new WeakHashMap<>();
+
+    public ItemRenderCache(int slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * Gets the item render states for the first slots of the machine, indexed by slot.
+     */
+    public ItemStackRenderState[] get(HPBlockEntityBase blockEntity) {
+        Entry entry = entries.computeIfAbsent(blockEntity, be -> new Entry(slots));
+        Level level = blockEntity.getLevel();
+        ItemModelResolver itemModelResolver = Minecraft.getInstance().getItemModelResolver();
+        if (entry.revision != blockEntity.getInventoryRevision() || entry.level.get() != level) {
+            entry.revision = blockEntity.getInventoryRevision();
+            // Weak so the entry doesn't keep the level, and with it the key, reachable
+            entry.level = new WeakReference<>(level);
+
+            for (int i = 0; i < slots; i++) {
+                ItemStack stack = blockEntity.getItem(i);
+                if (!stack.isEmpty()) {
+                    itemModelResolver.updateForTopItem(entry.items[i], stack, ItemDisplayContext.FIXED, level, null, 0);
+                } else {
+                    entry.items[i].clear();
+                }
+            }
+        } else {
+            // Animated models (compasses, clocks, time based properties) change without the stack changing
+            for (int i = 0; i < slots; i++) {
+                if (entry.items[i].isAnimated()) {
+                    itemModelResolver.updateForTopItem(entry.items[i], blockEntity.getItem(i), ItemDisplayContext.FIXED, level, null, 0);
+                }
+            }
+        }
+        return entry.items;
+    }
+
+    private static class Entry {
+        private final ItemStackRenderState[] items;
+        private int revision = -1;
+        private WeakReference<Level> level = new WeakReference<>(null);
+
+        private Entry(int slots) {
+            items = new ItemStackRenderState[slots];
+            for (int i = 0; i < slots; i++) {
+                items[i] = new ItemStackRenderState();
+            }
+        }
+    }
+}
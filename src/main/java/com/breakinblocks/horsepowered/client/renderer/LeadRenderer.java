@@ -4,11 +4,13 @@ import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import net.minecraft.client.renderer.rendertype.RenderTypes;
 import net.minecraft.client.renderer.SubmitNodeCollector;
+import net.minecraft.util.Mth;
 import net.minecraft.world.phys.Vec3;
 
 /**
  * Renders a lead (rope) between a horse-powered block and its attached worker mob.
  * Uses the 1.21.9+ submitCustomGeometry API for rendering with quads for proper thickness.
+ * The rope curve is baked once per segment count and scaled to the endpoint delta every frame.
  */
 public class LeadRenderer {
 
@@ -23,23 +25,43 @@ public class LeadRenderer {
     // Rope thickness (half-width)
     private static final float ROPE_HALF_WIDTH = 0.025f;
 
+    // Segment count by camera distance to the machine
+    private static final int SEGMENTS_NEAR = 24;
+    private static final int SEGMENTS_MID = 12;
+    private static final int SEGMENTS_FAR = 4;
+    private static final double LOD_NEAR_DISTANCE = 16.0D;
+    private static final double LOD_MID_DISTANCE = 32.0D;
+
+    // One unit curve per segment count, scaled to the endpoint delta every frame
+    private static final RopeCurve[] CURVES = new RopeCurve[SEGMENTS_NEAR + 1];
+    // Scaled curve points, filled and used right away while the geometry is emitted
+    private static final float[] POINTS = new float[(SEGMENTS_NEAR + 1) * 3];
+
+    static {
+        for (int segments = 1; segments <= SEGMENTS_NEAR; segments++) {
+            CURVES[segments] = new RopeCurve(segments);
+        }
+    }
+
     /**
      * Renders a lead from a block attachment point to an entity position.
      * Both positions should be relative to the block entity origin (0,0,0).
      *
      * @param blockAttachment The attachment point on the block, relative to block origin
      * @param entityPos The position of the entity's leash attachment point, relative to block origin
+     * @param cameraDistanceSq Squared distance from the camera to the block, for picking the segment count
      * @param poseStack The pose stack for transformations (already translated to block position)
      * @param collector The node collector for submitting geometry
      */
-    public static void renderLead(Vec3 blockAttachment, Vec3 entityPos,
+    public static void renderLead(Vec3 blockAttachment, Vec3 entityPos, double cameraDistanceSq,
                                    PoseStack poseStack, SubmitNodeCollector collector) {
         if (entityPos == null || blockAttachment == null) return;
 
         // Calculate the delta from block attachment to entity
-        double dx = entityPos.x - blockAttachment.x;
-        double dy = entityPos.y - blockAttachment.y;
-        double dz = entityPos.z - blockAttachment.z;
+        float dx = (float) (entityPos.x - blockAttachment.x);
+        float dy = (float) (entityPos.y - blockAttachment.y);
+        float dz = (float) (entityPos.z - blockAttachment.z);
+        RopeCurve curve = getCurve(getSegments(cameraDistanceSq));
 
         // Translate to block attachment point
         poseStack.pushPose();
@@ -50,66 +72,60 @@ public class LeadRenderer {
                 poseStack,
                 RenderTypes.debugQuads(),
                 (pose, consumer) -> {
-                    renderLeashRibbon(consumer, pose, dx, dy, dz);
+                    renderLeashRibbon(consumer, pose, curve, dx, dy, dz);
                 }
         );
 
         poseStack.popPose();
     }
 
+    /**
+     * Fewer segments the further the camera is; the sag is hard to see from a distance.
+     */
+    private static int getSegments(double cameraDistanceSq) {
+        if (cameraDistanceSq < LOD_NEAR_DISTANCE * LOD_NEAR_DISTANCE) return SEGMENTS_NEAR;
+        if (cameraDistanceSq < LOD_MID_DISTANCE * LOD_MID_DISTANCE) return SEGMENTS_MID;
+        return SEGMENTS_FAR;
+    }
+
+    /**
+     * Gets the unit curve for a segment count, which must be between 1 and SEGMENTS_NEAR.
+     */
+    static RopeCurve getCurve(int segments) {
+        return CURVES[segments];
+    }
+
     /**
      * Renders the leash as a ribbon of quads with proper thickness.
      * Creates two perpendicular ribbons (cross shape) for visibility from any angle.
      */
-    private static void renderLeashRibbon(VertexConsumer buffer, PoseStack.Pose pose,
-                                           double dx, double dy, double dz) {
-        // Number of segments in the leash
-        int segments = 24;
-
-        // Calculate distance for sag amount
-        float distance = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
-        float sagAmount = Math.min(distance * 0.15f, 1.5f);
-
-        // Pre-calculate all points along the curve
-        float[] xPoints = new float[segments + 1];
-        float[] yPoints = new float[segments + 1];
-        float[] zPoints = new float[segments + 1];
-
-        for (int i = 0; i <= segments; i++) {
-            float t = (float) i / segments;
-            xPoints[i] = (float) dx * t;
-            yPoints[i] = (float) dy * t;
-            zPoints[i] = (float) dz * t;
-
-            // Add sag (parabolic curve, maximum at middle)
-            float sagT = t * (1 - t) * 4;
-            yPoints[i] -= sagAmount * sagT;
+    private static void renderLeashRibbon(VertexConsumer buffer, PoseStack.Pose pose, RopeCurve curve, float dx, float dy, float dz) {
+        float[] points = POINTS;
+        curve.scale(dx, dy, dz, points);
+        int segments = curve.segments;
+
+        float lenXZ = Mth.sqrt(dx * dx + dz * dz);
+        float perpX, perpZ;
+        if (lenXZ > 0.0001f) {
+            // Perpendicular in X-Z plane. The curve only sags vertically, so every segment has the
+            // same direction in the X-Z plane and shares this perpendicular.
+            perpX = -dz / lenXZ * ROPE_HALF_WIDTH;
+            perpZ = dx / lenXZ * ROPE_HALF_WIDTH;
+        } else {
+            // Fallback for vertical ropes
+            perpX = ROPE_HALF_WIDTH;
+            perpZ = 0;
         }
 
         // Render horizontal ribbon (width in X-Z plane)
         for (int i = 0; i < segments; i++) {
-            float x1 = xPoints[i];
-            float y1 = yPoints[i];
-            float z1 = zPoints[i];
-            float x2 = xPoints[i + 1];
-            float y2 = yPoints[i + 1];
-            float z2 = zPoints[i + 1];
-
-            // Calculate perpendicular vector in X-Z plane
-            float segDx = x2 - x1;
-            float segDz = z2 - z1;
-            float segLenXZ = (float) Math.sqrt(segDx * segDx + segDz * segDz);
-
-            float perpX, perpZ;
-            if (segLenXZ > 0.0001f) {
-                // Perpendicular in X-Z plane
-                perpX = -segDz / segLenXZ * ROPE_HALF_WIDTH;
-                perpZ = segDx / segLenXZ * ROPE_HALF_WIDTH;
-            } else {
-                // Fallback for vertical segments
-                perpX = ROPE_HALF_WIDTH;
-                perpZ = 0;
-            }
+            int p = i * 3;
+            float x1 = points[p];
+            float y1 = points[p + 1];
+            float z1 = points[p + 2];
+            float x2 = points[p + 3];
+            float y2 = points[p + 4];
+            float z2 = points[p + 5];
 
             // Alternate colors for the rope texture effect
             int r, g, b;
@@ -139,12 +155,13 @@ public class LeadRenderer {
 
         // Render vertical ribbon (width in Y direction) for cross-section visibility
         for (int i = 0; i < segments; i++) {
-            float x1 = xPoints[i];
-            float y1 = yPoints[i];
-            float z1 = zPoints[i];
-            float x2 = xPoints[i + 1];
-            float y2 = yPoints[i + 1];
-            float z2 = zPoints[i + 1];
+            int p = i * 3;
+            float x1 = points[p];
+            float y1 = points[p + 1];
+            float z1 = points[p + 2];
+            float x2 = points[p + 3];
+            float y2 = points[p + 4];
+            float z2 = points[p + 5];
 
             // Alternate colors
             int r, g, b;
@@ -174,4 +191,43 @@ public class LeadRenderer {
             buffer.addVertex(pose, x2, y2 + perpY, z2).setColor(r, g, b, 255);
         }
     }
+
+    /**
+     * The sagging curve of a rope with a given number of segments, for a unit endpoint delta.
+     */
+    static class RopeCurve {
+        private final int segments;
+        // Position along the rope of each of the segments + 1 points, from 0 to 1
+        private final float[] t;
+        // Share of the full sag at each point (parabolic curve, 1 in the middle)
+        private final float[] sag;
+
+        RopeCurve(int segments) {
+            this.segments = segments;
+            this.t = new float[segments + 1];
+            this.sag = new float[segments + 1];
+            for (int i = 0; i <= segments; i++) {
+                float pointT = (float) i / segments;
+                t[i] = pointT;
+                sag[i] = pointT * (1 - pointT) * 4;
+            }
+        }
+
+        /**
+         * Writes x, y, z of every point of the curve for an endpoint delta to out, relative to the
+         * block attachment point.
+         */
+        void scale(float dx, float dy, float dz, float[] out) {
+            // Calculate distance for sag amount
+            float distance = Mth.sqrt(dx * dx + dy * dy + dz * dz);
+            float sagAmount = Math.min(distance * 0.15f, 1.5f);
+
+            for (int i = 0; i <= segments; i++) {
+                float pointT = t[i];
+                out[i * 3] = dx * pointT;
+                out[i * 3 + 1] = dy * pointT - sagAmount * sag[i];
+                out[i * 3 + 2] = dz * pointT;
+            }
+        }
+    }
 }
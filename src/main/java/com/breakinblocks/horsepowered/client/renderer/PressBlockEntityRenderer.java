@@ -3,7 +3,6 @@ package com.breakinblocks.horsepowered.client.renderer;
 import com.breakinblocks.horsepowered.blockentity.PressBlockEntity;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.math.Axis;
-import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.SubmitNodeCollector;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
 import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
@@ -14,14 +13,12 @@ import net.minecraft.client.renderer.state.CameraRenderState;
 import net.minecraft.client.renderer.texture.OverlayTexture;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.PathfinderMob;
-import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.phys.Vec3;
 import net.neoforged.neoforge.fluids.FluidStack;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-import java.util.Map;
+import java.util.BitSet;
 
 /**
  * Renderer for the horse-powered press.
@@ -29,6 +26,8 @@ import java.util.Map;
  */
 public class PressBlockEntityRenderer implements BlockEntityRenderer<PressBlockEntity, PressBlockEntityRenderer.PressRenderState> {
 
+    private final ItemRenderCache itemCache = new ItemRenderCache(2);
+
     public PressBlockEntityRenderer(BlockEntityRendererProvider.Context context) {
         // Context available for accessing rendering utilities
     }
@@ -44,6 +43,8 @@ public class PressBlockEntityRenderer implements BlockEntityRenderer<PressBlockE
         BlockEntityRenderState.extractBase(blockEntity, state, crumblingOverlay);
         state.partialTick = partialTick;
         state.blockPos = blockEntity.getBlockPos();
+        state.cameraDistanceSq = cameraPos.distanceToSqr(Vec3.atCenterOf(state.blockPos));
+        state.lod = RenderLod.forDistanceSq(state.cameraDistanceSq);
 
         // Extract worker position for leash rendering
         PathfinderMob worker = blockEntity.getWorker();
@@ -60,8 +61,8 @@ public class PressBlockEntityRenderer implements BlockEntityRenderer<PressBlockE
         }
 
         // Extract working area highlight data
-        state.showHighlight = blockEntity.shouldShowHighlight();
-        state.workingAreaPositions = blockEntity.getWorkingAreaPositions();
+        state.showHighlight = state.lod == RenderLod.FULL && blockEntity.shouldShowHighlight();
+        state.workingAreaClear = blockEntity.getWorkingAreaHighlight();
 
         // Extract plunger animation progress
         state.visualProgress = blockEntity.getVisualProgress();
@@ -77,19 +78,16 @@ public class PressBlockEntityRenderer implements BlockEntityRenderer<PressBlockE
         state.inputCount = input.getCount();
         state.outputCount = output.getCount();
 
-        var itemModelResolver = Minecraft.getInstance().getItemModelResolver();
-
-        if (!input.isEmpty()) {
-            itemModelResolver.updateForTopItem(state.inputItem, input, ItemDisplayContext.FIXED, blockEntity.getLevel(), null, 0);
-        } else {
-            state.inputItem.clear();
+        // Item models are only resolved up close, and only again once the inventory changed
+        if (state.lod != RenderLod.FULL) {
+            state.inputItem = ItemRenderCache.EMPTY;
+            state.outputItem = ItemRenderCache.EMPTY;
+            return;
         }
 
-        if (!output.isEmpty()) {
-            itemModelResolver.updateForTopItem(state.outputItem, output, ItemDisplayContext.FIXED, blockEntity.getLevel(), null, 0);
-        } else {
-            state.outputItem.clear();
-        }
+        ItemStackRenderState[] items = itemCache.get(blockEntity);
+        state.inputItem = items[0];
+        state.outputItem = items[1];
     }
 
     @Override
@@ -102,12 +100,11 @@ public class PressBlockEntityRenderer implements BlockEntityRenderer<PressBlockE
             // Worker position is the offset from block center, plus adjustment for block attachment point
             Vec3 workerPos = state.workerOffset.add(0.5, 0, 0.5);
 
-            LeadRenderer.renderLead(blockAttachment, workerPos, poseStack, collector);
+            LeadRenderer.renderLead(blockAttachment, workerPos, state.cameraDistanceSq, poseStack, collector);
         }
 
         // Render working area highlight
-        WorkingAreaRenderer.render(state.showHighlight, state.workingAreaPositions,
-                state.blockPos, poseStack, collector);
+        WorkingAreaRenderer.render(state.showHighlight, state.workingAreaClear, poseStack, collector);
 
         // Render plunger (moves down based on progress)
         PlungerRenderer.renderPlunger(poseStack, collector, state.visualProgress, state.lightCoords);
@@ -140,7 +137,7 @@ public class PressBlockEntityRenderer implements BlockEntityRenderer<PressBlockE
 
     @Override
     public int getViewDistance() {
-        return 64;
+        return RenderLod.getViewDistance();
     }
 
     public static class PressRenderState extends BlockEntityRenderState {
@@ -148,8 +145,10 @@ public class PressBlockEntityRenderer implements BlockEntityRenderer<PressBlockE
         public boolean hasWorker;
         public Vec3 workerOffset;  // Offset from block center to worker leash position
         public BlockPos blockPos;
+        public double cameraDistanceSq;
+        public RenderLod lod = RenderLod.FULL;
         public boolean showHighlight;
-        public List<Map.Entry<BlockPos, Boolean>> workingAreaPositions;
+        public BitSet workingAreaClear;
 
         // Plunger animation
         public float visualProgress;
@@ -159,8 +158,8 @@ public class PressBlockEntityRenderer implements BlockEntityRenderer<PressBlockE
         public int tankCapacity;
 
         // Item rendering states
-        public final ItemStackRenderState inputItem = new ItemStackRenderState();
-        public final ItemStackRenderState outputItem = new ItemStackRenderState();
+        public ItemStackRenderState inputItem = ItemRenderCache.EMPTY;
+        public ItemStackRenderState outputItem = ItemRenderCache.EMPTY;
         public int inputCount;
         public int outputCount;
     }
@@ -0,0 +1,31 @@
+package com.breakinblocks.horsepowered.client.renderer;
+
+import com.breakinblocks.horsepowered.config.HorsePowerConfig;
+
+/**
+ * Detail tiers for the horse-powered block entity renderers, picked from the camera distance.
+ * Beyond renderMaxDistance the renderers are culled entirely through getViewDistance(), leaving
+ * only the chunk-baked block model.
+ */
+public enum RenderLod {
+    /**
+     * Everything: items, working area highlight, moving parts, fluid and lead.
+     */
+    FULL,
+    /**
+     * Moving parts, fluid and lead only; no item models or highlight.
+     */
+    REDUCED;
+
+    public static RenderLod forDistanceSq(double distanceSq) {
+        double full = HorsePowerConfig.renderFullDetailDistance.get();
+        return distanceSq <= full * full ? FULL : REDUCED;
+    }
+
+    /**
+     * View distance for the block entity renderers, from the config.
+     */
+    public static int getViewDistance() {
+        return HorsePowerConfig.renderMaxDistance.get();
+    }
+}
@@ -1,13 +1,13 @@
 package com.breakinblocks.horsepowered.client.renderer;
 
+import com.breakinblocks.horsepowered.blockentity.HPBlockEntityHorseBase;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import net.minecraft.client.renderer.SubmitNodeCollector;
 import net.minecraft.client.renderer.rendertype.RenderTypes;
 import net.minecraft.core.BlockPos;
 
-import java.util.List;
-import java.util.Map;
+import java.util.BitSet;
 
 /**
  * Shared utility for rendering the working area highlight for horse-powered blocks.
@@ -24,14 +24,12 @@ public class WorkingAreaRenderer {
      * This version is compatible with the 1.21.9+ render state extraction pattern.
      *
      * @param showHighlight Whether to show the highlight (from render state)
-     * @param positions The working area positions with clear/blocked status
-     * @param blockPos The block position (for calculating offsets)
+     * @param clear The cached clear/blocked status, indexed like HPBlockEntityHorseBase.getWorkingAreaOffset()
      * @param poseStack The pose stack (already translated to block position)
      * @param collector The node collector for submitting geometry
      */
-    public static void render(boolean showHighlight, List<Map.Entry<BlockPos, Boolean>> positions,
-                              BlockPos blockPos, PoseStack poseStack, SubmitNodeCollector collector) {
-        if (!showHighlight || positions == null || positions.isEmpty()) {
+    public static void render(boolean showHighlight, BitSet clear, PoseStack poseStack, SubmitNodeCollector collector) {
+        if (!showHighlight || clear == null) {
             return;
         }
 
@@ -40,18 +38,17 @@ public class WorkingAreaRenderer {
                 poseStack,
                 RenderTypes.debugQuads(),
                 (pose, consumer) -> {
-                    for (Map.Entry<BlockPos, Boolean> entry : positions) {
-                        BlockPos pos = entry.getKey();
-                        boolean isClear = entry.getValue();
-
-                        // Calculate offset from block entity position
-                        float x = pos.getX() - blockPos.getX();
-                        float y = pos.getY() - blockPos.getY();
-                        float z = pos.getZ() - blockPos.getZ();
+                    int size = HPBlockEntityHorseBase.getWorkingAreaSize();
+                    for (int i = 0; i < size; i++) {
+                        // Offsets are already relative to the block entity position
+                        long offset = HPBlockEntityHorseBase.getWorkingAreaOffset(i);
+                        float x = BlockPos.getX(offset);
+                        float y = BlockPos.getY(offset);
+                        float z = BlockPos.getZ(offset);
 
                         // Render a slightly smaller box (0.02 inset) to avoid z-fighting
                         renderBox(consumer, pose, x + 0.02f, y + 0.02f, z + 0.02f,
-                                x + 0.98f, y + 0.98f, z + 0.98f, isClear);
+                                x + 0.98f, y + 0.98f, z + 0.98f, clear.get(i));
                     }
                 }
         );
@@ -0,0 +1,69 @@
+package com.breakinblocks.horsepowered.command;
+
+import com.breakinblocks.horsepowered.HorsePowerMod;
+import com.breakinblocks.horsepowered.profiling.MachineProfiler;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * /horsepowered profile start|stop|dump [count]
+ */
+@EventBusSubscriber(modid = HorsePowerMod.MOD_ID)
+public class HPCommands {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HPCommands.class);
+    private static final int DEFAULT_TOP = 10;
+
+    @SubscribeEvent
+    public static void registerCommands(RegisterCommandsEvent event) {
+        register(event.getDispatcher());
+    }
+
+    private static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal(HorsePowerMod.MOD_ID)
+                .requires(Commands.hasPermission(Commands.LEVEL_GAMEMASTERS))
+                .then(Commands.literal("profile")
+                        .then(Commands.literal("start").executes(context -> {
+                            MachineProfiler.start();
+                            context.getSource().sendSuccess(() -> Component.literal("Started profiling horse-powered machines"), true);
+                            return 1;
+                        }))
+                        .then(Commands.literal("stop").executes(context -> {
+                            if (!MachineProfiler.isRunning()) {
+                                context.getSource().sendFailure(Component.literal("The profiler is not running"));
+                                return 0;
+                            }
+                            MachineProfiler.stop();
+                            context.getSource().sendSuccess(() -> Component.literal("Stopped profiling, use /horsepowered profile dump to see the results"), true);
+                            return 1;
+                        }))
+                        .then(Commands.literal("dump")
+                                .executes(context -> dump(context.getSource(), DEFAULT_TOP))
+                                .then(Commands.argument("count", IntegerArgumentType.integer(1, 100))
+                                        .executes(context -> dump(context.getSource(), IntegerArgumentType.getInteger(context, "count")))))));
+    }
+
+    private static int dump(CommandSourceStack source, int top) {
+        if (!MachineProfiler.hasResults()) {
+            source.sendFailure(Component.literal("No profiling results, run /horsepowered profile start first"));
+            return 0;
+        }
+        // Also goes to the log, where it's easier to copy from on a dedicated server
+        List<String> lines = MachineProfiler.dump(top);
+        for (String line : lines) {
+            LOGGER.info("[HorsePowered] {}", line);
+            source.sendSuccess(() -> Component.literal(line), false);
+        }
+        return lines.size();
+    }
+}
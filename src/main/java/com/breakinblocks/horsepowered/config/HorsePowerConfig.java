@@ -10,6 +10,8 @@ public class HorsePowerConfig {
     public static ModConfigSpec.BooleanValue renderItemAmount;
     public static ModConfigSpec.BooleanValue mustLookAtBlock;
     public static ModConfigSpec.BooleanValue showObstructedPlace;
+    public static ModConfigSpec.IntValue renderFullDetailDistance;
+    public static ModConfigSpec.IntValue renderMaxDistance;
 
     // Common settings
     public static ModConfigSpec.BooleanValue shouldDamageAxe;
@@ -21,6 +23,14 @@ public class HorsePowerConfig {
     public static ModConfigSpec.IntValue pressFluidTankSize;
     public static ModConfigSpec.DoubleValue grindstoneExhaustion;
     public static ModConfigSpec.DoubleValue choppingBlockExhaustion;
+    public static ModConfigSpec.IntValue machineWorkBudget;
+    public static ModConfigSpec.IntValue maxWorkerSearchesPerTick;
+    public static ModConfigSpec.IntValue maxCatchUpTicks;
+    public static ModConfigSpec.BooleanValue virtualWorkerMovement;
+
+    // Debug settings
+    public static ModConfigSpec.BooleanValue debugLogging;
+    public static ModConfigSpec.IntValue debugLogInterval;
 
     static {
         ModConfigSpec.Builder builder = new ModConfigSpec.Builder();
@@ -38,6 +48,14 @@ public class HorsePowerConfig {
             showObstructedPlace = builder
                     .comment("If true will show the area needed when placing a HP block")
                     .define("showObstructedPlace", true);
+
+            renderFullDetailDistance = builder
+                    .comment("The distance in blocks within which HP blocks render their items and working area highlight. Further away only the moving parts, fluid and lead are rendered")
+                    .defineInRange("renderFullDetailDistance", 24, 0, 256);
+
+            renderMaxDistance = builder
+                    .comment("The distance in blocks beyond which HP blocks render nothing but their block model")
+                    .defineInRange("renderMaxDistance", 64, 1, 256);
         }
         builder.pop();
 
@@ -78,6 +96,34 @@ public class HorsePowerConfig {
             choppingBlockExhaustion = builder
                     .comment("The exhaustion amount added to the player when using the chopping block (0 to disable)")
                     .defineInRange("choppingBlockExhaustion", 0.1D, 0.0D, 40.0D);
+
+            machineWorkBudget = builder
+                    .comment("The time in microseconds each dimension may spend per tick on deferred machine work (working area checks and worker searches). At least one of each runs every tick.")
+                    .defineInRange("machineWorkBudget", 1000, 50, 50000);
+
+            maxWorkerSearchesPerTick = builder
+                    .comment("The maximum number of searches for a missing worker each dimension runs per tick, on top of the time budget")
+                    .defineInRange("maxWorkerSearchesPerTick", 16, 1, 1000);
+
+            maxCatchUpTicks = builder
+                    .comment("If above 0, horse-powered machines that were working when their chunk unloaded catch up on the missed work when it loads again, limited by their input and output space. This is the longest unloaded time in ticks they catch up on (0 to disable, e.g. 24000 for one day)")
+                    .defineInRange("maxCatchUpTicks", 0, 0, 1728000);
+
+            virtualWorkerMovement = builder
+                    .comment("If true the path position of working horses follows from the game time, and clients move them along the path themselves. The server only moves them once per path point, which saves most of their movement packets.")
+                    .define("virtualWorkerMovement", false);
+        }
+        builder.pop();
+
+        builder.comment("Debug settings").push("debug");
+        {
+            debugLogging = builder
+                    .comment("If true horse-powered machines log worker tracking and save/load details for troubleshooting")
+                    .define("debugLogging", false);
+
+            debugLogInterval = builder
+                    .comment("The minimum number of ticks between debug log samples from the same machine")
+                    .defineInRange("debugLogInterval", 200, 1, Integer.MAX_VALUE);
         }
         builder.pop();
 
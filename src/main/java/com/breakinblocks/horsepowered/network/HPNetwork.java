@@ -0,0 +1,43 @@
+package com.breakinblocks.horsepowered.network;
+
+import com.breakinblocks.horsepowered.HorsePowerMod;
+import com.breakinblocks.horsepowered.blockentity.HPBlockEntityBase;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.network.PacketDistributor;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+
+@EventBusSubscriber(modid = HorsePowerMod.MOD_ID)
+public class HPNetwork {
+
+    private static final String PROTOCOL_VERSION = "1";
+
+    @SubscribeEvent
+    public static void registerPayloads(RegisterPayloadHandlersEvent event) {
+        PayloadRegistrar registrar = event.registrar(PROTOCOL_VERSION);
+        registrar.playToClient(MachineSyncPayload.TYPE, MachineSyncPayload.STREAM_CODEC, HPNetwork::handleMachineSync);
+    }
+
+    /**
+     * Sends a machine delta to the players that have the machine's chunk loaded.
+     */
+    public static void sendToTracking(ServerLevel level, MachineSyncPayload payload) {
+        PacketDistributor.sendToPlayersTrackingChunk(level, new ChunkPos(payload.pos()), payload);
+    }
+
+    private static void handleMachineSync(MachineSyncPayload payload, IPayloadContext context) {
+        Level level = context.player().level();
+        if (!level.isLoaded(payload.pos())) return;
+
+        BlockEntity blockEntity = level.getBlockEntity(payload.pos());
+        if (blockEntity instanceof HPBlockEntityBase machine) {
+            machine.applySyncDelta(payload);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.breakinblocks.horsepowered.network;
+
+import com.breakinblocks.horsepowered.HorsePowerMod;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.fluids.FluidStack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Carries only the parts of a machine's client-visible state that changed since the last sync:
+ * single inventory slots, the machine's progress counters, the worker/valid state, the press fluid
+ * and the orbit of a virtually moving worker.
+ * Full block entity data is still sent when a player starts tracking the chunk.
+ */
+public record MachineSyncPayload(BlockPos pos, int changes, int[] slotIndices, List<ItemStack> slotStacks,
+                                 int[] progress, boolean valid, long workerUuidMost, long workerUuidLeast,
+                                 FluidStack fluid, long orbitStart, int orbitPoint) implements CustomPacketPayload {
+
+    public static final int SLOTS = 1;
+    public static final int PROGRESS = 1 << 1;
+    public static final int WORKER = 1 << 2;
+    public static final int FLUID = 1 << 3;
+    public static final int ORBIT = 1 << 4;
+
+    public static final Type<MachineSyncPayload> TYPE = new Type<>(HorsePowerMod.id("machine_sync"));
+    public static final StreamCodec<RegistryFriendlyByteBuf, MachineSyncPayload> STREAM_CODEC =
+            StreamCodec.ofMember(MachineSyncPayload::write, MachineSyncPayload::read);
+
+    private static final int[] NONE = new int[0];
+
+    public boolean has(int change) {
+        return (changes & change) != 0;
+    }
+
+    private void write(RegistryFriendlyByteBuf buf) {
+        buf.writeBlockPos(pos);
+        buf.writeByte(changes);
+        if (has(SLOTS)) {
+            buf.writeVarInt(slotIndices.length);
+            for (int i = 0; i < slotIndices.length; i++) {
+                buf.writeVarInt(slotIndices[i]);
+                ItemStack.OPTIONAL_STREAM_CODEC.encode(buf, slotStacks.get(i));
+            }
+        }
+        if (has(PROGRESS)) {
+            buf.writeVarIntArray(progress);
+        }
+        if (has(WORKER)) {
+            buf.writeBoolean(valid);
+            buf.writeLong(workerUuidMost);
+            buf.writeLong(workerUuidLeast);
+        }
+        if (has(FLUID)) {
+            FluidStack.OPTIONAL_STREAM_CODEC.encode(buf, fluid);
+        }
+        if (has(ORBIT)) {
+            buf.writeLong(orbitStart);
+            buf.writeByte(orbitPoint);
+        }
+    }
+
+    private static MachineSyncPayload read(RegistryFriendlyByteBuf buf) {
+        BlockPos pos = buf.readBlockPos();
+        int changes = buf.readByte();
+
+        int[] slotIndices = NONE;
+        List<ItemStack> slotStacks = List.of();
+        if ((changes & SLOTS) != 0) {
+            int count = buf.readVarInt();
+            slotIndices = new int[count];
+            slotStacks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                slotIndices[i] = buf.readVarInt();
+                slotStacks.add(ItemStack.OPTIONAL_STREAM_CODEC.decode(buf));
+            }
+        }
+        int[] progress = (changes & PROGRESS) != 0 ? buf.readVarIntArray() : NONE;
+
+        boolean valid = false;
+        long workerUuidMost = 0L;
+        long workerUuidLeast = 0L;
+        if ((changes & WORKER) != 0) {
+            valid = buf.readBoolean();
+            workerUuidMost = buf.readLong();
+            workerUuidLeast = buf.readLong();
+        }
+        FluidStack fluid = (changes & FLUID) != 0 ? FluidStack.OPTIONAL_STREAM_CODEC.decode(buf) : FluidStack.EMPTY;
+
+        long orbitStart = -1L;
+        int orbitPoint = 0;
+        if ((changes & ORBIT) != 0) {
+            orbitStart = buf.readLong();
+            orbitPoint = buf.readByte();
+        }
+
+        return new MachineSyncPayload(pos, changes, slotIndices, slotStacks, progress, valid, workerUuidMost, workerUuidLeast, fluid, orbitStart, orbitPoint);
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    /**
+     * Collects the changes of one machine. Block entities add the fields that differ from what
+     * they last sent, and the payload is only sent if anything was added.
+     */
+    public static class Builder {
+        private final BlockPos pos;
+        private int changes;
+        private final List<Integer> slotIndices = new ArrayList<>();
+        private final List<ItemStack> slotStacks = new ArrayList<>();
+        private int[] progress = NONE;
+        private boolean valid;
+        private long workerUuidMost;
+        private long workerUuidLeast;
+        private FluidStack fluid = FluidStack.EMPTY;
+        private long orbitStart = -1L;
+        private int orbitPoint;
+
+        public Builder(BlockPos pos) {
+            this.pos = pos;
+        }
+
+        public Builder slot(int index, ItemStack stack) {
+            changes |= SLOTS;
+            slotIndices.add(index);
+            slotStacks.add(stack);
+            return this;
+        }
+
+        public Builder progress(int[] progress) {
+            changes |= PROGRESS;
+            this.progress = progress;
+            return this;
+        }
+
+        public Builder worker(boolean valid, long workerUuidMost, long workerUuidLeast) {
+            changes |= WORKER;
+            this.valid = valid;
+            this.workerUuidMost = workerUuidMost;
+            this.workerUuidLeast = workerUuidLeast;
+            return this;
+        }
+
+        public Builder fluid(FluidStack fluid) {
+            changes |= FLUID;
+            this.fluid = fluid;
+            return this;
+        }
+
+        public Builder orbit(long orbitStart, int orbitPoint) {
+            changes |= ORBIT;
+            this.orbitStart = orbitStart;
+            this.orbitPoint = orbitPoint;
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return changes == 0;
+        }
+
+        public MachineSyncPayload build() {
+            int[] indices = new int[slotIndices.size()];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = slotIndices.get(i);
+            }
+            return new MachineSyncPayload(pos, changes, indices, List.copyOf(slotStacks), progress, valid, workerUuidMost, workerUuidLeast, fluid, orbitStart, orbitPoint);
+        }
+    }
+}
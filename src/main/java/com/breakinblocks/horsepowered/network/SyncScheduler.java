@@ -0,0 +1,58 @@
+package com.breakinblocks.horsepowered.network;
+
+import com.breakinblocks.horsepowered.HorsePowerMod;
+import com.breakinblocks.horsepowered.blockentity.HPBlockEntityBase;
+import com.breakinblocks.horsepowered.profiling.MachineProfiler;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.util.Iterator;
+
+/**
+ * Collects the machines that changed during a server tick and sends each one a single client
+ * sync at the end of the tick, however many times it called setChanged() in between.
+ */
+@EventBusSubscriber(modid = HorsePowerMod.MOD_ID)
+public class SyncScheduler {
+
+    private static final ReferenceLinkedOpenHashSet<HPBlockEntityBase> DIRTY = new ReferenceLinkedOpenHashSet<>();
+
+    /**
+     * Queues a machine to be synced at the end of the current server tick.
+     */
+    public static void markDirty(HPBlockEntityBase machine) {
+        DIRTY.add(machine);
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        if (DIRTY.isEmpty()) return;
+
+        boolean flushProfiling = MachineProfiler.begin();
+        Iterator<HPBlockEntityBase> it = DIRTY.iterator();
+        while (it.hasNext()) {
+            HPBlockEntityBase machine = it.next();
+            if (machine.isRemoved() || !(machine.getLevel() instanceof ServerLevel level)) {
+                it.remove();
+                continue;
+            }
+            // Machines with a rate-limited progress change stay queued until it's due
+            boolean profiling = MachineProfiler.begin();
+            boolean flushed = machine.flushSync(level);
+            if (profiling) MachineProfiler.end(MachineProfiler.Section.SYNC, machine);
+            if (flushed) {
+                it.remove();
+            }
+        }
+        if (flushProfiling) MachineProfiler.end(MachineProfiler.Section.SYNC_FLUSH, null);
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        DIRTY.clear();
+    }
+}
@@ -0,0 +1,280 @@
+package com.breakinblocks.horsepowered.profiling;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures wall time and allocated bytes of the machine code paths on the server thread while a
+ * profiling session is running. Results are aggregated per section, per machine type, per chunk
+ * and per machine.
+ * <p>
+ * Callers wrap a section like this, so nothing is measured when no session is running:
+ * <pre>{@code
+ * boolean profiling = MachineProfiler.begin();
+ * ...
+ * if (profiling) MachineProfiler.end(Section.VALIDATE_AREA, this);
+ * }</pre>
+ * Sections may nest; the time of a nested section is also included in the enclosing one.
+ * <p>
+ * A listener can also be installed to get every measured section as it ends, without a
+ * profiling session. The game test harness records machine ticks that way.
+ */
+public class MachineProfiler {
+
+    public enum Section {
+        HORSE_TICK("horse machine tick", true),
+        HAND_GRINDSTONE_TICK("hand grindstone tick", true),
+        RECIPE_LOOKUP("recipe lookup", false),
+        VALIDATE_AREA("validate area", false),
+        FIND_WORKER("find worker", false),
+        SYNC("sync packet", false),
+        // Everything a dimension's machine scheduler does in a tick, including the sections above
+        SCHEDULER("machine scheduler", false),
+        // The end-of-tick client sync of every changed machine, including its sync packets
+        SYNC_FLUSH("sync flush", false);
+
+        private final String label;
+        // Whole machine ticks, which are also counted per chunk and per machine
+        private final boolean tick;
+
+        Section(String label, boolean tick) {
+            this.label = label;
+            this.tick = tick;
+        }
+    }
+
+    private static final Section[] SECTIONS = Section.values();
+    private static final int MAX_DEPTH = 8;
+
+    @Nullable
+    private static final com.sun.management.ThreadMXBean THREADS = getThreadBean();
+
+    private static boolean running;
+    @Nullable
+    private static Thread thread;
+    private static long startedAt;
+    @Nullable
+    private static Listener listener;
+    @Nullable
+    private static Thread listenerThread;
+    private static long stoppedAt;
+
+    private static int depth;
+    private static final long[] START_NANOS = new long[MAX_DEPTH];
+    private static final long[] START_BYTES = new long[MAX_DEPTH];
+
+    private static final Stats[] BY_SECTION = new Stats[SECTIONS.length];
+    private static final Map<BlockEntityType<?>, Stats[]> BY_TYPE = new Reference2ObjectOpenHashMap<>();
+    private static final Map<ResourceKey<Level>, Long2ObjectOpenHashMap<Stats>> BY_CHUNK = new Reference2ObjectOpenHashMap<>();
+    private static final Map<BlockEntity, Stats> BY_MACHINE = new Reference2ObjectOpenHashMap<>();
+
+    @Nullable
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    /**
+     * Starts a new session on the calling thread, discarding the results of the previous one.
+     */
+    public static void start() {
+        for (int i = 0; i < BY_SECTION.length; i++) {
+            BY_SECTION[i] = new Stats();
+        }
+        BY_TYPE.clear();
+        BY_CHUNK.clear();
+        BY_MACHINE.clear();
+        depth = 0;
+        thread = Thread.currentThread();
+        startedAt = System.nanoTime();
+        running = true;
+    }
+
+    /**
+     * Stops measuring. The results stay available for dump() until the next start().
+     */
+    public static void stop() {
+        if (!running) return;
+        running = false;
+        stoppedAt = System.nanoTime();
+    }
+
+    public static boolean isRunning() {
+        return running;
+    }
+
+    public static boolean hasResults() {
+        return BY_SECTION[0] != null;
+    }
+
+    public static boolean isAllocationSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Installs a listener for the sections measured on the calling thread, or removes it with null.
+     */
+    public static void setListener(@Nullable Listener newListener) {
+        listener = newListener;
+        listenerThread = newListener != null ? Thread.currentThread() : null;
+    }
+
+    /**
+     * Opens a section. Returns false if nothing is measured, in which case end() must not be called.
+     */
+    public static boolean begin() {
+        if (depth == MAX_DEPTH) return false;
+        Thread current = Thread.currentThread();
+        if (!(running && current == thread) && !(listener != null && current == listenerThread)) return false;
+        START_BYTES[depth] = allocatedBytes();
+        START_NANOS[depth] = System.nanoTime();
+        depth++;
+        return true;
+    }
+
+    /**
+     * Closes the innermost section opened by begin().
+     *
+     * @param machine The machine the section ran for, or null if it can't be attributed to one
+     */
+    public static void end(Section section, @Nullable BlockEntity machine) {
+        if (depth == 0) return;
+        long nanos = System.nanoTime() - START_NANOS[--depth];
+        long bytes = allocatedBytes() - START_BYTES[depth];
+        Listener sectionListener = listener;
+        if (sectionListener != null && Thread.currentThread() == listenerThread) {
+            sectionListener.onSection(section, machine, nanos, bytes, depth == 0);
+        }
+        // A session restarted from inside a section has no stats for it
+        if (!running) return;
+
+        BY_SECTION[section.ordinal()].add(nanos, bytes);
+        if (machine == null) return;
+
+        Stats[] typeStats = BY_TYPE.computeIfAbsent(machine.getType(), t -> new Stats[SECTIONS.length]);
+        if (typeStats[section.ordinal()] == null) {
+            typeStats[section.ordinal()] = new Stats();
+        }
+        typeStats[section.ordinal()].add(nanos, bytes);
+
+        if (section.tick && machine.getLevel() != null) {
+            long chunk = ChunkPos.asLong(machine.getBlockPos().getX() >> 4, machine.getBlockPos().getZ() >> 4);
+            BY_CHUNK.computeIfAbsent(machine.getLevel().dimension(), d -> new Long2ObjectOpenHashMap<>())
+                    .computeIfAbsent(chunk, c -> new Stats())
+                    .add(nanos, bytes);
+            BY_MACHINE.computeIfAbsent(machine, m -> new Stats()).add(nanos, bytes);
+        }
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    /**
+     * Formats the results: every section, the machine types, and the hottest chunks and machines
+     * by total tick time.
+     */
+    public static List<String> dump(int top) {
+        List<String> lines = new ArrayList<>();
+        if (!hasResults()) {
+            lines.add("No profiling results, run /horsepowered profile start first");
+            return lines;
+        }
+
+        long duration = (running ? System.nanoTime() : stoppedAt) - startedAt;
+        lines.add(String.format("Machine profile over %.1f s%s%s", duration / 1.0E9D, running ? " (still running)" : "",
+                isAllocationSupported() ? "" : ", allocation tracking not supported by this JVM"));
+
+        lines.add("Sections:");
+        for (Section section : SECTIONS) {
+            Stats stats = BY_SECTION[section.ordinal()];
+            if (stats.count > 0) {
+                lines.add("  " + section.label + ": " + stats.format());
+            }
+        }
+
+        lines.add("Machine types:");
+        BY_TYPE.forEach((type, stats) -> {
+            lines.add("  " + BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(type) + ":");
+            for (Section section : SECTIONS) {
+                if (stats[section.ordinal()] != null) {
+                    lines.add("    " + section.label + ": " + stats[section.ordinal()].format());
+                }
+            }
+        });
+
+        lines.add("Hottest chunks:");
+        List<Map.Entry<String, Stats>> chunks = new ArrayList<>();
+        BY_CHUNK.forEach((dimension, byChunk) -> {
+            for (Long2ObjectMap.Entry<Stats> entry : byChunk.long2ObjectEntrySet()) {
+                long chunk = entry.getLongKey();
+                chunks.add(Map.entry(dimension.identifier() + " [" + ChunkPos.getX(chunk) + ", " + ChunkPos.getZ(chunk) + "]", entry.getValue()));
+            }
+        });
+        addTop(lines, chunks, top);
+
+        lines.add("Hottest machines:");
+        List<Map.Entry<String, Stats>> machines = new ArrayList<>();
+        BY_MACHINE.forEach((machine, stats) -> machines.add(Map.entry(
+                BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(machine.getType()) + " at " + machine.getBlockPos().toShortString()
+                        + (machine.isRemoved() ? " (removed)" : ""), stats)));
+        addTop(lines, machines, top);
+
+        return lines;
+    }
+
+    private static void addTop(List<String> lines, List<Map.Entry<String, Stats>> entries, int top) {
+        entries.sort(Comparator.comparingLong((Map.Entry<String, Stats> e) -> e.getValue().totalNanos).reversed());
+        for (int i = 0; i < Math.min(top, entries.size()); i++) {
+            lines.add("  " + (i + 1) + ". " + entries.get(i).getKey() + ": " + entries.get(i).getValue().format());
+        }
+    }
+
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called when a section ends, with its wall time and the bytes allocated inside it.
+         *
+         * @param outermost Whether the section wasn't nested in another one, so its time isn't
+         *                  already counted by an enclosing section
+         */
+        void onSection(Section section, @Nullable BlockEntity machine, long nanos, long bytes, boolean outermost);
+    }
+
+    private static class Stats {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long totalBytes;
+
+        private void add(long nanos, long bytes) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            totalBytes += bytes;
+        }
+
+        private String format() {
+            return String.format("%d calls, %.2f ms total, %.2f us mean, %.2f us max, %d B/call",
+                    count, totalNanos / 1.0E6D, totalNanos / 1.0E3D / count, maxNanos / 1.0E3D, totalBytes / count);
+        }
+    }
+}
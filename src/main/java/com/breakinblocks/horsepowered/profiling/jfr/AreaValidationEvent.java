@@ -0,0 +1,22 @@
+package com.breakinblocks.horsepowered.profiling.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+@Name("horsepowered.AreaValidation")
+@Label("Area Validation")
+@Description("A machine checked its whole working area")
+public class AreaValidationEvent extends MachineEvent {
+
+    @Label("Clear")
+    boolean clear;
+
+    public void report(BlockEntity machine, boolean clear) {
+        if (!shouldCommit()) return;
+        setMachine(machine);
+        this.clear = clear;
+        commit();
+    }
+}
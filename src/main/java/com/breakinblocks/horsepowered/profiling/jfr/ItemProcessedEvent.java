@@ -0,0 +1,33 @@
+package com.breakinblocks.horsepowered.profiling.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+@Name("horsepowered.ItemProcessed")
+@Label("Item Processed")
+@Description("A machine finished a work cycle and produced its result")
+public class ItemProcessedEvent extends MachineEvent {
+
+    @Label("Input")
+    String input;
+
+    @Label("Result")
+    String result;
+
+    @Label("Result Count")
+    int resultCount;
+
+    public static void emit(BlockEntity machine, ItemStack input, ItemStack result) {
+        ItemProcessedEvent event = new ItemProcessedEvent();
+        if (!event.shouldCommit()) return;
+        event.setMachine(machine);
+        event.input = BuiltInRegistries.ITEM.getKey(input.getItem()).toString();
+        event.result = BuiltInRegistries.ITEM.getKey(result.getItem()).toString();
+        event.resultCount = result.getCount();
+        event.commit();
+    }
+}
@@ -0,0 +1,40 @@
+package com.breakinblocks.horsepowered.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+/**
+ * Base of the JFR events emitted by machines. Events are created at the call site and only filled
+ * in and committed if a recording has them enabled, so they cost next to nothing otherwise.
+ */
+@Category("HorsePowered")
+@StackTrace(false)
+public abstract class MachineEvent extends Event {
+
+    @Label("Machine Type")
+    String machineType;
+
+    @Label("Dimension")
+    String dimension;
+
+    @Label("X")
+    int x;
+
+    @Label("Y")
+    int y;
+
+    @Label("Z")
+    int z;
+
+    void setMachine(BlockEntity machine) {
+        machineType = String.valueOf(BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(machine.getType()));
+        dimension = machine.getLevel() != null ? machine.getLevel().dimension().identifier().toString() : null;
+        x = machine.getBlockPos().getX();
+        y = machine.getBlockPos().getY();
+        z = machine.getBlockPos().getZ();
+    }
+}
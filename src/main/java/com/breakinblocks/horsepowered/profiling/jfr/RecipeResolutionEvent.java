@@ -0,0 +1,28 @@
+package com.breakinblocks.horsepowered.profiling.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+@Name("horsepowered.RecipeResolution")
+@Label("Recipe Resolution")
+@Description("A machine looked up the recipe for a new input")
+public class RecipeResolutionEvent extends MachineEvent {
+
+    @Label("Input")
+    String input;
+
+    @Label("Found")
+    boolean found;
+
+    public void report(BlockEntity machine, ItemStack input, boolean found) {
+        if (!shouldCommit()) return;
+        setMachine(machine);
+        this.input = BuiltInRegistries.ITEM.getKey(input.getItem()).toString();
+        this.found = found;
+        commit();
+    }
+}
@@ -0,0 +1,28 @@
+package com.breakinblocks.horsepowered.profiling.jfr;
+
+import com.breakinblocks.horsepowered.network.MachineSyncPayload;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+@Name("horsepowered.SyncFlush")
+@Label("Sync Flush")
+@Description("A machine sent its changed state to the tracking players")
+public class SyncFlushEvent extends MachineEvent {
+
+    @Label("Changes")
+    @Description("MachineSyncPayload change flags: 1 slots, 2 progress, 4 worker, 8 fluid")
+    int changes;
+
+    @Label("Slots")
+    int slots;
+
+    public void report(BlockEntity machine, MachineSyncPayload payload) {
+        if (!shouldCommit()) return;
+        setMachine(machine);
+        changes = payload.changes();
+        slots = payload.slotIndices().length;
+        commit();
+    }
+}
@@ -0,0 +1,29 @@
+package com.breakinblocks.horsepowered.profiling.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+@Name("horsepowered.WorkerFound")
+@Label("Worker Found")
+@Description("A machine reconnected to its stored worker")
+public class WorkerFoundEvent extends MachineEvent {
+
+    @Label("Worker")
+    String worker;
+
+    @Label("Area Scan")
+    @Description("Whether the worker was only found by the fallback area scan")
+    boolean scanned;
+
+    public static void emit(BlockEntity machine, Entity worker, boolean scanned) {
+        WorkerFoundEvent event = new WorkerFoundEvent();
+        if (!event.shouldCommit()) return;
+        event.setMachine(machine);
+        event.worker = worker.getUUID().toString();
+        event.scanned = scanned;
+        event.commit();
+    }
+}
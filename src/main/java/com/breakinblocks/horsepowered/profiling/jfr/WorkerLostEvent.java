@@ -0,0 +1,29 @@
+package com.breakinblocks.horsepowered.profiling.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+@Name("horsepowered.WorkerLost")
+@Label("Worker Lost")
+@Description("A machine lost the reference to its worker")
+public class WorkerLostEvent extends MachineEvent {
+
+    @Label("Worker")
+    String worker;
+
+    @Label("Permanent")
+    @Description("Whether the worker is dead or leashed elsewhere and the lead was dropped")
+    boolean permanent;
+
+    public static void emit(BlockEntity machine, Entity worker, boolean permanent) {
+        WorkerLostEvent event = new WorkerLostEvent();
+        if (!event.shouldCommit()) return;
+        event.setMachine(machine);
+        event.worker = worker.getUUID().toString();
+        event.permanent = permanent;
+        event.commit();
+    }
+}
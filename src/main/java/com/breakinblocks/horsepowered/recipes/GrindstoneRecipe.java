@@ -10,14 +10,13 @@ import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
-import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeBookCategory;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.item.crafting.PlacementInfo;
 import net.minecraft.world.level.Level;
 
-public class GrindstoneRecipe implements Recipe<HPRecipeInput> {
+public class GrindstoneRecipe implements HPRecipe {
 
     private final Ingredient ingredient;
     private final ItemStack result;
@@ -81,6 +80,7 @@ public class GrindstoneRecipe implements Recipe<HPRecipeInput> {
     }
 
     // Accessors
+    @Override
     public Ingredient getIngredient() {
         return ingredient;
     }
@@ -0,0 +1,21 @@
+package com.breakinblocks.horsepowered.recipes;
+
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+
+/**
+ * Common shape of the Horse Powered recipes: a single ingredient processed into some result.
+ */
+public interface HPRecipe extends Recipe<HPRecipeInput> {
+
+    Ingredient getIngredient();
+
+    /**
+     * Whether this recipe accepts the given item as input, ignoring any input count requirement.
+     * Machines check the count themselves when deciding if they can work.
+     */
+    default boolean accepts(ItemStack stack) {
+        return getIngredient().test(stack);
+    }
+}
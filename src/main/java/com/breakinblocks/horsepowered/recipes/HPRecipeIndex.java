@@ -0,0 +1,179 @@
+package com.breakinblocks.horsepowered.recipes;
+
+import com.breakinblocks.horsepowered.HorsePowerMod;
+import net.minecraft.core.Holder;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.OnDatapackSyncEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Item-keyed index over the Horse Powered recipe types, so a lookup only tests the recipes whose
+ * ingredient can contain the input item instead of every recipe of the type.
+ * The index belongs to one RecipeManager instance and is rebuilt after a datapack reload.
+ * It also remembers inputs that matched nothing, so hoppers and pipes offering items that will
+ * never be accepted are rejected without testing any ingredients.
+ */
+@EventBusSubscriber(modid = HorsePowerMod.MOD_ID)
+public class HPRecipeIndex {
+
+    // Upper bound on remembered misses per recipe type, evicting the least recently checked input
+    private static final int MAX_MISSES = 1024;
+
+    @Nullable
+    private static HPRecipeIndex instance;
+    private static int lastGeneration = 0;
+
+    private final RecipeManager manager;
+    private final int generation;
+    private final Map<RecipeType<?>, TypeIndex<?>> types = new IdentityHashMap<>();
+
+    private HPRecipeIndex(RecipeManager manager, int generation) {
+        this.manager = manager;
+        this.generation = generation;
+    }
+
+    /**
+     * Gets the index for the level's recipe manager, building a new one if the recipes were reloaded.
+     */
+    public static HPRecipeIndex get(ServerLevel level) {
+        RecipeManager manager = (RecipeManager) level.recipeAccess();
+        HPRecipeIndex index = instance;
+        if (index == null || index.manager != manager) {
+            index = new HPRecipeIndex(manager, ++lastGeneration);
+            instance = index;
+        }
+        return index;
+    }
+
+    /**
+     * Finds the first recipe of the given type that accepts the stack. Always empty on the client.
+     */
+    public static <R extends HPRecipe> Optional<RecipeHolder<R>> findRecipe(@Nullable Level level, RecipeType<R> type, ItemStack stack) {
+        if (stack.isEmpty() || !(level instanceof ServerLevel serverLevel)) return Optional.empty();
+        return get(serverLevel).find(type, stack);
+    }
+
+    /**
+     * Whether any recipe of the given type accepts the stack, ignoring input counts.
+     */
+    public static boolean hasRecipe(@Nullable Level level, RecipeType<? extends HPRecipe> type, ItemStack stack) {
+        return findRecipe(level, type, stack).isPresent();
+    }
+
+    /**
+     * Drops the current index; the next lookup builds a fresh one.
+     */
+    public static void invalidate() {
+        instance = null;
+    }
+
+    /**
+     * Increases every time a new index is built. Caches compare it to detect reloaded recipes.
+     */
+    public int generation() {
+        return generation;
+    }
+
+    public <R extends HPRecipe> Optional<RecipeHolder<R>> find(RecipeType<R> type, ItemStack stack) {
+        return getTypeIndex(type).find(stack);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R extends HPRecipe> TypeIndex<R> getTypeIndex(RecipeType<R> type) {
+        return (TypeIndex<R>) types.computeIfAbsent(type, t -> TypeIndex.build(manager.recipeMap().byType(type)));
+    }
+
+    @SubscribeEvent
+    public static void onDatapackSync(OnDatapackSyncEvent event) {
+        // A null player means the datapacks were reloaded, rather than a player joining
+        if (event.getPlayer() == null) {
+            invalidate();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * The index over one recipe type.
+     */
+    static class TypeIndex<R extends HPRecipe> {
+        private final Map<Item, List<RecipeHolder<R>>> byItem = new HashMap<>();
+        private final List<RecipeHolder<R>> unindexed = new ArrayList<>();
+        private final Map<MissKey, Boolean> misses = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<MissKey, Boolean> eldest) {
+                return size() > MAX_MISSES;
+            }
+        };
+
+        static <R extends HPRecipe> TypeIndex<R> build(Iterable<RecipeHolder<R>> recipes) {
+            TypeIndex<R> index = new TypeIndex<>();
+            for (RecipeHolder<R> holder : recipes) {
+                List<Holder<Item>> items = holder.value().getIngredient().items().toList();
+                if (items.isEmpty()) {
+                    // Custom ingredients that can't list their items are tested against every input
+                    index.unindexed.add(holder);
+                    continue;
+                }
+                for (Holder<Item> item : items) {
+                    List<RecipeHolder<R>> candidates = index.byItem.computeIfAbsent(item.value(), i -> new ArrayList<>());
+                    if (!candidates.contains(holder)) {
+                        candidates.add(holder);
+                    }
+                }
+            }
+            return index;
+        }
+
+        Optional<RecipeHolder<R>> find(ItemStack stack) {
+            MissKey key = new MissKey(stack.getItem(), stack.getComponentsPatch());
+            if (misses.get(key) != null) {
+                return Optional.empty();
+            }
+
+            List<RecipeHolder<R>> candidates = byItem.get(stack.getItem());
+            if (candidates != null) {
+                for (RecipeHolder<R> holder : candidates) {
+                    if (holder.value().accepts(stack)) {
+                        return Optional.of(holder);
+                    }
+                }
+            }
+            for (RecipeHolder<R> holder : unindexed) {
+                if (holder.value().accepts(stack)) {
+                    return Optional.of(holder);
+                }
+            }
+            misses.put(key, Boolean.TRUE);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * An input that no recipe accepted. Ingredients only look at the item and its components,
+     * so the stack count is left out.
+     */
+    private record MissKey(Item item, DataComponentPatch components) {
+    }
+}
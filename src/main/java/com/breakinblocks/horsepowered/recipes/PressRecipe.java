@@ -10,7 +10,6 @@ import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
-import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeBookCategory;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
@@ -18,7 +17,7 @@ import net.minecraft.world.item.crafting.PlacementInfo;
 import net.minecraft.world.level.Level;
 import net.neoforged.neoforge.fluids.FluidStack;
 
-public class PressRecipe implements Recipe<HPRecipeInput> {
+public class PressRecipe implements HPRecipe {
 
     private final Ingredient ingredient;
     private final int inputCount;
@@ -81,6 +80,7 @@ public class PressRecipe implements Recipe<HPRecipeInput> {
     }
 
     // Accessors
+    @Override
     public Ingredient getIngredient() {
         return ingredient;
     }
@@ -0,0 +1,61 @@
+package com.breakinblocks.horsepowered.recipes;
+
+import com.breakinblocks.horsepowered.profiling.MachineProfiler;
+import com.breakinblocks.horsepowered.profiling.jfr.RecipeResolutionEvent;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Holds the recipe resolved for a machine's input slot, so the several recipe queries made while
+ * processing one item share a single lookup.
+ * The entry stays valid while the input keeps the same item and components and the recipe index
+ * hasn't been rebuilt by a datapack reload.
+ */
+public class RecipeCache<R extends HPRecipe> {
+
+    private final Supplier<RecipeType<R>> type;
+
+    private int generation = 0;
+    private ItemStack key = ItemStack.EMPTY;
+    private Optional<RecipeHolder<R>> recipe = Optional.empty();
+
+    public RecipeCache(Supplier<RecipeType<R>> type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the recipe for the given input, resolving it only if the input or the recipes changed.
+     * Always empty on the client, where recipes are not available.
+     */
+    public Optional<RecipeHolder<R>> get(BlockEntity machine, ItemStack input) {
+        if (input.isEmpty() || !(machine.getLevel() instanceof ServerLevel serverLevel)) return Optional.empty();
+
+        HPRecipeIndex index = HPRecipeIndex.get(serverLevel);
+        if (index.generation() != generation || !ItemStack.isSameItemSameComponents(key, input)) {
+            generation = index.generation();
+            key = input.copyWithCount(1);
+            boolean profiling = MachineProfiler.begin();
+            RecipeResolutionEvent event = new RecipeResolutionEvent();
+            event.begin();
+            recipe = index.find(type.get(), input);
+            event.report(machine, input, recipe.isPresent());
+            if (profiling) MachineProfiler.end(MachineProfiler.Section.RECIPE_LOOKUP, machine);
+        }
+        return recipe;
+    }
+
+    /**
+     * Forgets the resolved recipe. Called when the input slot is replaced with a different item.
+     */
+    public void invalidate() {
+        generation = 0;
+        key = ItemStack.EMPTY;
+        recipe = Optional.empty();
+    }
+}